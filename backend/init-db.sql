@@ -319,19 +319,49 @@ CREATE TABLE IF NOT EXISTS scholarships.applications (
     
     -- Match Score (for AI matching)
     match_score DECIMAL(5,2),
+    scholarship_updated_at TIMESTAMP, -- Scholarship updated_at the score was computed against
+    scoring_version BIGINT, -- Scoring config version the score was computed with
     
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Databases created before application re-scoring already have the table; their
+-- applications are re-scored once on the first sync
+ALTER TABLE scholarships.applications ADD COLUMN IF NOT EXISTS scholarship_updated_at TIMESTAMP;
+ALTER TABLE scholarships.applications ADD COLUMN IF NOT EXISTS scoring_version BIGINT;
+
 -- Saved Scholarships (Bookmarks)
 CREATE TABLE IF NOT EXISTS scholarships.saved_scholarships (
     id BIGSERIAL PRIMARY KEY,
     student_id BIGINT NOT NULL,
     scholarship_id BIGINT NOT NULL REFERENCES scholarships.scholarships(id),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    reminder_sent_at TIMESTAMP, -- Deadline reminder queued
     UNIQUE(student_id, scholarship_id)
 );
+-- Databases created before deadline reminders already have the table
+ALTER TABLE scholarships.saved_scholarships ADD COLUMN IF NOT EXISTS reminder_sent_at TIMESTAMP;
+
+-- Materialized match scores (maintained by the scholarship-service matching pipeline)
+CREATE TABLE IF NOT EXISTS scholarships.match_scores (
+    student_id BIGINT NOT NULL, -- Student user ID
+    scholarship_id BIGINT NOT NULL REFERENCES scholarships.scholarships(id) ON DELETE CASCADE,
+    score DECIMAL(5,2) NOT NULL,
+    quality VARCHAR(20) NOT NULL, -- EXCELLENT, GOOD, FAIR, POOR
+    eligible BOOLEAN NOT NULL,
+    computed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (student_id, scholarship_id)
+);
+
+-- Published matching weights and thresholds shared by all scholarship-service nodes
+-- (a single row; version 1 is the application.yml configuration, so rows start at 2)
+CREATE TABLE IF NOT EXISTS scholarships.scoring_config (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL,
+    config JSONB NOT NULL, -- {"weights": {...}, "thresholds": {...}}
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
 
 -- =====================================================
 -- CONTENT SCHEMA - News and Blog content tables
@@ -490,6 +520,12 @@ CREATE INDEX IF NOT EXISTS idx_scholarships_deadline ON scholarships.scholarship
 CREATE INDEX IF NOT EXISTS idx_applications_scholarship_id ON scholarships.applications(scholarship_id);
 CREATE INDEX IF NOT EXISTS idx_applications_student_id ON scholarships.applications(student_id);
 CREATE INDEX IF NOT EXISTS idx_applications_status ON scholarships.applications(status);
+CREATE INDEX IF NOT EXISTS idx_applications_scholarship_score ON scholarships.applications(scholarship_id, match_score DESC NULLS LAST);
+-- The (student_id, scholarship_id) lookup is served by the UNIQUE constraint's index
+CREATE INDEX IF NOT EXISTS idx_saved_scholarships_student_id ON scholarships.saved_scholarships(student_id, id DESC);
+CREATE INDEX IF NOT EXISTS idx_saved_scholarships_unreminded ON scholarships.saved_scholarships(scholarship_id) WHERE reminder_sent_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_match_scores_student_score ON scholarships.match_scores(student_id, score DESC, scholarship_id DESC);
+CREATE INDEX IF NOT EXISTS idx_match_scores_scholarship_score ON scholarships.match_scores(scholarship_id, score DESC);
 
 -- Content indexes
 CREATE INDEX IF NOT EXISTS idx_news_status ON content.news(status);
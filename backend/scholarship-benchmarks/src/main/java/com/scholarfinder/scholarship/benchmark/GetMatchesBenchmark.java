@@ -0,0 +1,67 @@
+package com.scholarfinder.scholarship.benchmark;
+
+import com.scholarfinder.scholarship.dto.MatchRequest;
+import com.scholarfinder.scholarship.dto.MatchResponse;
+import com.scholarfinder.scholarship.entity.StudentProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@code ScholarshipService.getMatchesForStudent} over mocked repositories,
+ * rotating through students so the per-student cache sees realistic reuse when enabled.
+ * eligibleOnly requests narrow the candidates, so their cache misses score only those.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetMatchesBenchmark {
+
+    private static final int STUDENTS = 64;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int catalogSize;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    @Param({"MATCH_DESC", "DEADLINE_ASC"})
+    public String sortBy;
+
+    @Param({"false", "true"})
+    public boolean eligibleOnly;
+
+    private MatchingFixture fixture;
+    private MatchRequest[] requests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<StudentProfile> students = SyntheticCatalog.students(STUDENTS, 7);
+        fixture = MatchingFixture.create(SyntheticCatalog.scholarships(catalogSize, 42), students, cached);
+        requests = new MatchRequest[STUDENTS];
+        for (int i = 0; i < STUDENTS; i++) {
+            requests[i] = MatchRequest.builder()
+                .studentUserId(students.get(i).getUserId())
+                .minimumMatchPercentage(0)
+                .limit(50)
+                .sortBy(sortBy)
+                .eligibleOnly(eligibleOnly)
+                .build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public MatchResponse getMatchesForStudent() {
+        return fixture.scholarshipService.getMatchesForStudent(requests[next++ & (STUDENTS - 1)]);
+    }
+}
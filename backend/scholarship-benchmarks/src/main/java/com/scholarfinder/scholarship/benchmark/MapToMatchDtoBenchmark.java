@@ -0,0 +1,67 @@
+package com.scholarfinder.scholarship.benchmark;
+
+import com.scholarfinder.scholarship.dto.MatchResult;
+import com.scholarfinder.scholarship.dto.ScholarshipMatchDto;
+import com.scholarfinder.scholarship.service.CompiledScholarship;
+import com.scholarfinder.scholarship.service.ScholarshipService;
+import com.scholarfinder.scholarship.service.StudentFeatureVector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping one page of explained results to response DTOs with the private
+ * {@code ScholarshipService.mapToMatchDto}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapToMatchDtoBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private MatchingFixture fixture;
+    private MethodHandle mapToMatchDto;
+    private CompiledScholarship[] scholarships;
+    private MatchResult[] results;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        fixture = MatchingFixture.create(SyntheticCatalog.scholarships(PAGE_SIZE, 42),
+            SyntheticCatalog.students(1, 7), false);
+        StudentFeatureVector student = StudentFeatureVector.of(SyntheticCatalog.students(1, 7).get(0));
+
+        List<CompiledScholarship> compiled = fixture.index.snapshot().scholarships();
+        scholarships = new CompiledScholarship[compiled.size()];
+        results = new MatchResult[compiled.size()];
+        for (int i = 0; i < compiled.size(); i++) {
+            scholarships[i] = compiled.get(i);
+            results[i] = fixture.matchingService.calculateMatch(student, compiled.get(i));
+        }
+
+        mapToMatchDto = MethodHandles.privateLookupIn(ScholarshipService.class, MethodHandles.lookup())
+            .findVirtual(ScholarshipService.class, "mapToMatchDto",
+                MethodType.methodType(ScholarshipMatchDto.class, CompiledScholarship.class, MatchResult.class))
+            .bindTo(fixture.scholarshipService);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public void mapPage(Blackhole blackhole) throws Throwable {
+        for (int i = 0; i < scholarships.length; i++) {
+            blackhole.consume((ScholarshipMatchDto) mapToMatchDto.invokeExact(scholarships[i], results[i]));
+        }
+    }
+}
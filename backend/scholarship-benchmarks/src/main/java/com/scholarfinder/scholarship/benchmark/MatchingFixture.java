@@ -0,0 +1,112 @@
+package com.scholarfinder.scholarship.benchmark;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import com.scholarfinder.scholarship.entity.Scholarship;
+import com.scholarfinder.scholarship.entity.StudentProfile;
+import com.scholarfinder.scholarship.repository.MatchScoreRepository;
+import com.scholarfinder.scholarship.repository.ScholarshipRepository;
+import com.scholarfinder.scholarship.repository.StudentProfileRepository;
+import com.scholarfinder.scholarship.service.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Wires the matching services by hand, as Spring would, over mocked repositories
+ * serving a synthetic catalog and student population.
+ */
+public final class MatchingFixture {
+
+    public final MatchingConfig config;
+    public final MatchingService matchingService;
+    public final CompiledScholarshipIndex index;
+    public final MatchScoringEngine scoringEngine;
+    public final MatchScoreCache cache;
+    public final ScholarshipService scholarshipService;
+
+    private MatchingFixture(List<Scholarship> scholarships, List<StudentProfile> students, boolean cacheEnabled) {
+        config = new MatchingConfig();
+        config.getCache().setMaxEntries(cacheEnabled ? students.size() : 0);
+
+        ScholarshipRepository scholarshipRepository = mock(ScholarshipRepository.class);
+        when(scholarshipRepository.findActiveScholarships(any(LocalDate.class))).thenReturn(scholarships);
+
+        Map<Long, StudentProfile> byUserId = new HashMap<>();
+        for (StudentProfile student : students) {
+            byUserId.put(student.getUserId(), student);
+        }
+        StudentProfileRepository studentProfileRepository = mock(StudentProfileRepository.class);
+        when(studentProfileRepository.findByUserId(anyLong()))
+            .thenAnswer(invocation -> Optional.ofNullable(byUserId.get(invocation.<Long>getArgument(0))));
+        // Cached profiles are revalidated against the stored updated_at on every hit
+        when(studentProfileRepository.findVersionsByUserIdIn(any())).thenAnswer(invocation -> {
+            List<StudentProfileRepository.ProfileVersion> versions = new ArrayList<>();
+            for (Long userId : invocation.<Collection<Long>>getArgument(0)) {
+                StudentProfile student = byUserId.get(userId);
+                if (student != null) {
+                    versions.add(new ProfileVersion(userId, student.getUpdatedAt()));
+                }
+            }
+            return versions;
+        });
+
+        // Meters go to an in-memory registry; category sampling stays at the production default
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MatchMetrics metrics = new MatchMetrics(meterRegistry, config);
+        matchingService = new MatchingService(new ScoringProfiles(config), metrics);
+        // Deadline expiry is not exercised; the benchmark catalog only has future deadlines
+        index = new CompiledScholarshipIndex(scholarshipRepository, mock(TaskScheduler.class));
+        index.rebuild();
+        scoringEngine = new MatchScoringEngine(matchingService, config);
+        invoke(scoringEngine, "start");
+        cache = new MatchScoreCache(config);
+
+        // Materialization stays disabled in the default config, so these are never called
+        MatchScoreRepository matchScoreRepository = mock(MatchScoreRepository.class);
+        MatchScoreMaterializer materializer = mock(MatchScoreMaterializer.class);
+
+        // The profile cache follows the match cache switch so cold runs still read every profile
+        config.getProfileCache().setMaxEntries(cacheEnabled ? students.size() : 0);
+        StudentProfileCache profileCache = new StudentProfileCache(studentProfileRepository, config, meterRegistry);
+
+        scholarshipService = new ScholarshipService(scholarshipRepository, profileCache, matchingService,
+            config, index, scoringEngine, cache, matchScoreRepository, materializer, metrics);
+    }
+
+    private record ProfileVersion(Long getUserId, LocalDateTime getUpdatedAt)
+            implements StudentProfileRepository.ProfileVersion {}
+
+    public static MatchingFixture create(List<Scholarship> scholarships, List<StudentProfile> students,
+                                         boolean cacheEnabled) {
+        return new MatchingFixture(scholarships, students, cacheEnabled);
+    }
+
+    public void close() {
+        invoke(scoringEngine, "stop");
+    }
+
+    // Lifecycle callbacks are package-private for Spring; call them reflectively
+    private static void invoke(Object target, String methodName) {
+        try {
+            Method method = target.getClass().getDeclaredMethod(methodName);
+            method.setAccessible(true);
+            method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot invoke " + methodName + " on " + target.getClass(), e);
+        }
+    }
+}
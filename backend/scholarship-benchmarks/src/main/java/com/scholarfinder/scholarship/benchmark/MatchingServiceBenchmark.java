@@ -0,0 +1,82 @@
+package com.scholarfinder.scholarship.benchmark;
+
+import com.scholarfinder.scholarship.entity.Scholarship;
+import com.scholarfinder.scholarship.entity.StudentProfile;
+import com.scholarfinder.scholarship.service.CompiledScholarship;
+import com.scholarfinder.scholarship.service.MatchingService;
+import com.scholarfinder.scholarship.service.StudentFeatureVector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One student scored against the whole catalog, per operation.
+ *
+ * calculateMatchEntity is the original entry point (compile + full explanation per pair),
+ * calculateMatchCompiled skips compilation, scoreOnly is the score pass used for ranking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchingServiceBenchmark {
+
+    private static final int STUDENTS = 64;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int catalogSize;
+
+    private MatchingFixture fixture;
+    private MatchingService matchingService;
+    private List<Scholarship> scholarships;
+    private List<CompiledScholarship> compiled;
+    private List<StudentProfile> students;
+    private StudentFeatureVector[] features;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scholarships = SyntheticCatalog.scholarships(catalogSize, 42);
+        students = SyntheticCatalog.students(STUDENTS, 7);
+        fixture = MatchingFixture.create(scholarships, students, false);
+        matchingService = fixture.matchingService;
+        compiled = fixture.index.snapshot().scholarships();
+        features = new StudentFeatureVector[STUDENTS];
+        for (int i = 0; i < STUDENTS; i++) {
+            features[i] = StudentFeatureVector.of(students.get(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public void calculateMatchEntity(Blackhole blackhole) {
+        StudentProfile student = students.get(next++ & (STUDENTS - 1));
+        for (Scholarship scholarship : scholarships) {
+            blackhole.consume(matchingService.calculateMatch(student, scholarship));
+        }
+    }
+
+    @Benchmark
+    public void calculateMatchCompiled(Blackhole blackhole) {
+        StudentFeatureVector student = features[next++ & (STUDENTS - 1)];
+        for (CompiledScholarship scholarship : compiled) {
+            blackhole.consume(matchingService.calculateMatch(student, scholarship));
+        }
+    }
+
+    @Benchmark
+    public void scoreOnly(Blackhole blackhole) {
+        StudentFeatureVector student = features[next++ & (STUDENTS - 1)];
+        for (CompiledScholarship scholarship : compiled) {
+            blackhole.consume(matchingService.score(student, scholarship));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.scholarfinder.scholarship.benchmark;
+
+import com.scholarfinder.scholarship.service.MatchingService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Match percentage arithmetic: the former BigDecimal divide/multiply/setScale chain
+ * against the int basis-point formula now used by {@link MatchingService}.
+ * Each operation converts a batch of (earned, maximum) pairs, like the nine ratios per match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PercentageArithmeticBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    private static final MethodHandle BASIS_POINTS;
+
+    static {
+        try {
+            BASIS_POINTS = MethodHandles.privateLookupIn(MatchingService.class, MethodHandles.lookup())
+                .findStatic(MatchingService.class, "basisPoints",
+                    MethodType.methodType(int.class, int.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int[] earned = new int[PAIRS];
+    private final int[] maximum = new int[PAIRS];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < PAIRS; i++) {
+            maximum[i] = 10 + random.nextInt(91);
+            earned[i] = random.nextInt(maximum[i] + 1);
+        }
+    }
+
+    @Benchmark
+    public void bigDecimalChain(Blackhole blackhole) {
+        for (int i = 0; i < PAIRS; i++) {
+            blackhole.consume(BigDecimal.valueOf(earned[i])
+                .divide(BigDecimal.valueOf(maximum[i]), 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Benchmark
+    public void basisPoints(Blackhole blackhole) throws Throwable {
+        for (int i = 0; i < PAIRS; i++) {
+            blackhole.consume((int) BASIS_POINTS.invokeExact(earned[i], maximum[i]));
+        }
+    }
+}
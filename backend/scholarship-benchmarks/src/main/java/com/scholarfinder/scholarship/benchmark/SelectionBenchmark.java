@@ -0,0 +1,68 @@
+package com.scholarfinder.scholarship.benchmark;
+
+import com.scholarfinder.scholarship.service.CompiledScholarship;
+import com.scholarfinder.scholarship.service.MatchScore;
+import com.scholarfinder.scholarship.service.StudentFeatureVector;
+import com.scholarfinder.scholarship.service.TopMatchSelector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picking the returned page out of all passing scores: the former
+ * sortMatches + subList (full sort) against the bounded-heap {@link TopMatchSelector}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectionBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int catalogSize;
+
+    @Param({"MATCH_DESC", "DEADLINE_ASC"})
+    public String sortBy;
+
+    @Param({"50"})
+    public int limit;
+
+    private MatchingFixture fixture;
+    private List<MatchScore> scores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = MatchingFixture.create(SyntheticCatalog.scholarships(catalogSize, 42),
+            SyntheticCatalog.students(1, 7), false);
+        StudentFeatureVector student = StudentFeatureVector.of(SyntheticCatalog.students(1, 7).get(0));
+        scores = new ArrayList<>(catalogSize);
+        for (CompiledScholarship scholarship : fixture.index.snapshot().scholarships()) {
+            scores.add(fixture.matchingService.score(student, scholarship));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public List<MatchScore> sortMatches() {
+        List<MatchScore> sorted = new ArrayList<>(scores);
+        sorted.sort(TopMatchSelector.order(sortBy));
+        return sorted.size() > limit ? sorted.subList(0, limit) : sorted;
+    }
+
+    @Benchmark
+    public List<MatchScore> topMatchSelector() {
+        TopMatchSelector selector = new TopMatchSelector(sortBy, limit);
+        for (int i = 0; i < scores.size(); i++) {
+            selector.offer(scores.get(i), i);
+        }
+        return selector.results();
+    }
+}
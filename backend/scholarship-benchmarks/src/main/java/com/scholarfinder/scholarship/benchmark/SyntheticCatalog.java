@@ -0,0 +1,194 @@
+package com.scholarfinder.scholarship.benchmark;
+
+import com.scholarfinder.scholarship.entity.Scholarship;
+import com.scholarfinder.scholarship.entity.StudentProfile;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Seeded generator of scholarships and student profiles for the benchmarks.
+ *
+ * Value distributions follow the production catalog mix: most scholarships target
+ * undergraduates, a fifth are open to any nationality, about half require an English
+ * test, and eligibility fields are drawn from the same vocabulary students use.
+ */
+public final class SyntheticCatalog {
+
+    private static final String[] LEVELS = {"UNDERGRADUATE", "POSTGRADUATE", "PHD"};
+    private static final double[] LEVEL_WEIGHTS = {0.55, 0.32, 0.13};
+
+    private static final String[] COUNTRIES = {
+        "Sri Lanka", "India", "United Kingdom", "United States", "Australia", "Japan",
+        "Germany", "Canada", "Malaysia", "Singapore", "New Zealand", "China"
+    };
+    private static final double[] COUNTRY_WEIGHTS = {0.40, 0.08, 0.09, 0.08, 0.08, 0.05,
+        0.05, 0.05, 0.04, 0.03, 0.03, 0.02};
+
+    private static final String[] FIELDS = {
+        "Computer Science", "Engineering", "Medicine", "Business Administration", "Economics",
+        "Law", "Physics", "Mathematics", "Biology", "Chemistry", "Architecture", "Education",
+        "Agriculture", "Environmental Science", "Psychology", "Data Science", "Nursing",
+        "Information Technology", "Accounting", "Fine Arts"
+    };
+
+    private static final String[] ENGLISH_TESTS = {"IELTS", "TOEFL", "PTE"};
+    private static final double[] ENGLISH_TEST_WEIGHTS = {0.6, 0.3, 0.1};
+
+    private static final String[] STREAMS = {"SCIENCE", "COMMERCE", "ARTS", "TECHNOLOGY"};
+
+    private static final String[] INCOME_BRACKETS = {
+        "Below LKR 30,000", "LKR 30,000 - 50,000", "LKR 50,000 - 75,000", "LKR 75,000 - 100,000",
+        "LKR 100,000 - 150,000", "LKR 150,000 - 200,000", "Above LKR 200,000"
+    };
+    private static final double[] INCOME_WEIGHTS = {0.18, 0.22, 0.2, 0.15, 0.12, 0.08, 0.05};
+
+    private static final String[] GRADES = {"A", "B", "C", "S", "F"};
+    private static final double[] GRADE_WEIGHTS = {0.25, 0.3, 0.25, 0.15, 0.05};
+
+    private SyntheticCatalog() {
+    }
+
+    /**
+     * Active scholarships with deadlines spread over the next year.
+     */
+    public static List<Scholarship> scholarships(int count, long seed) {
+        Random random = new Random(seed);
+        LocalDate today = LocalDate.now();
+        LocalDateTime updated = LocalDateTime.now().minusDays(1);
+        List<Scholarship> scholarships = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            boolean englishRequired = random.nextDouble() < 0.5;
+            String englishTest = englishRequired ? pick(random, ENGLISH_TESTS, ENGLISH_TEST_WEIGHTS) : null;
+            boolean full = random.nextDouble() < 0.35;
+            boolean ageLimited = random.nextDouble() < 0.4;
+            int minAge = 16 + random.nextInt(6);
+
+            scholarships.add(Scholarship.builder()
+                .id((long) i + 1)
+                .institutionId(1L + random.nextInt(200))
+                .title("Synthetic Scholarship " + (i + 1))
+                .description("Generated scholarship for matching benchmarks")
+                .scholarshipType(full ? "FULL" : "PARTIAL")
+                .coveragePercentage(full ? null : 25 + random.nextInt(4) * 25)
+                .amount(full ? null : BigDecimal.valueOf(1000L + random.nextInt(20) * 500L))
+                .currency("USD")
+                .eligibleCountries(random.nextDouble() < 0.2 ? null : sample(random, COUNTRIES, COUNTRY_WEIGHTS, 1 + random.nextInt(3)))
+                .eligibleFields(random.nextDouble() < 0.25 ? null : sample(random, FIELDS, null, 1 + random.nextInt(4)))
+                .eligibleLevels(random.nextDouble() < 0.15 ? null : sample(random, LEVELS, LEVEL_WEIGHTS, 1 + random.nextInt(2)))
+                .minGpa(random.nextDouble() < 0.6 ? BigDecimal.valueOf(200 + random.nextInt(151), 2) : null)
+                .minAge(ageLimited ? minAge : null)
+                .maxAge(ageLimited ? minAge + 10 + random.nextInt(20) : null)
+                .requiredEnglishTest(englishTest)
+                .minEnglishScore(englishTest == null ? null : englishThreshold(random, englishTest))
+                .requiredAlStream(random.nextDouble() < 0.3 ? STREAMS[random.nextInt(STREAMS.length)] : "ANY")
+                .minZScore(random.nextDouble() < 0.2 ? BigDecimal.valueOf(500 + random.nextInt(1500), 3) : null)
+                .requiresFinancialNeed(random.nextDouble() < 0.3)
+                .maxHouseholdIncome(random.nextDouble() < 0.3 ? pick(random, INCOME_BRACKETS, INCOME_WEIGHTS) : null)
+                .sportsAchievementRequired(random.nextDouble() < 0.05)
+                .leadershipRequired(random.nextDouble() < 0.08)
+                .firstGenerationPriority(random.nextDouble() < 0.15)
+                .disabilityFriendly(random.nextDouble() < 0.1)
+                .returnToHomeRequired(random.nextDouble() < 0.15)
+                .applicationDeadline(today.plusDays(1 + random.nextInt(365)))
+                .status("ACTIVE")
+                .isFeatured(random.nextDouble() < 0.05)
+                .createdAt(updated)
+                .updatedAt(updated)
+                .build());
+        }
+        return scholarships;
+    }
+
+    /**
+     * Student profiles with completed academic, English and background sections.
+     */
+    public static List<StudentProfile> students(int count, long seed) {
+        Random random = new Random(seed);
+        LocalDate today = LocalDate.now();
+        LocalDateTime updated = LocalDateTime.now().minusDays(1);
+        List<StudentProfile> students = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            boolean hasEnglish = random.nextDouble() < 0.7;
+            String englishTest = hasEnglish ? pick(random, ENGLISH_TESTS, ENGLISH_TEST_WEIGHTS) : null;
+
+            students.add(StudentProfile.builder()
+                .id((long) i + 1)
+                .userId(10_000L + i)
+                .fullName("Student " + (i + 1))
+                .dateOfBirth(today.minusYears(17 + random.nextInt(15)).minusDays(random.nextInt(365)))
+                .nationality(random.nextDouble() < 0.85 ? "Sri Lankan" : "Indian")
+                .intendedLevel(pick(random, LEVELS, LEVEL_WEIGHTS))
+                .alStream(STREAMS[random.nextInt(STREAMS.length)])
+                .grade1(pick(random, GRADES, GRADE_WEIGHTS))
+                .grade2(pick(random, GRADES, GRADE_WEIGHTS))
+                .grade3(pick(random, GRADES, GRADE_WEIGHTS))
+                .zScore(BigDecimal.valueOf(random.nextInt(2500), 3))
+                .englishTest(englishTest)
+                .overallScore(englishTest == null ? null : englishScore(random, englishTest).toPlainString())
+                .householdIncome(pick(random, INCOME_BRACKETS, INCOME_WEIGHTS))
+                .preferredFields(sample(random, FIELDS, null, 1 + random.nextInt(3)))
+                .sports(yesNo(random, 0.2))
+                .leadership(yesNo(random, 0.25))
+                .firstGeneration(yesNo(random, 0.3))
+                .disability(yesNo(random, 0.05))
+                .willingToReturn(yesNo(random, 0.7))
+                .createdAt(updated)
+                .updatedAt(updated)
+                .build());
+        }
+        return students;
+    }
+
+    private static BigDecimal englishThreshold(Random random, String test) {
+        return switch (test) {
+            case "IELTS" -> BigDecimal.valueOf(55 + random.nextInt(4) * 5, 1);  // 5.5 - 7.0
+            case "TOEFL" -> BigDecimal.valueOf(70 + random.nextInt(31));        // 70 - 100
+            default -> BigDecimal.valueOf(50 + random.nextInt(21));             // PTE 50 - 70
+        };
+    }
+
+    private static BigDecimal englishScore(Random random, String test) {
+        return switch (test) {
+            case "IELTS" -> BigDecimal.valueOf(50 + random.nextInt(7) * 5, 1);  // 5.0 - 8.0
+            case "TOEFL" -> BigDecimal.valueOf(60 + random.nextInt(55));        // 60 - 114
+            default -> BigDecimal.valueOf(45 + random.nextInt(40));             // PTE 45 - 84
+        };
+    }
+
+    private static String yesNo(Random random, double probability) {
+        return random.nextDouble() < probability ? "Yes" : "No";
+    }
+
+    private static String pick(Random random, String[] values, double[] weights) {
+        if (weights == null) {
+            return values[random.nextInt(values.length)];
+        }
+        double r = random.nextDouble();
+        double cumulative = 0;
+        for (int i = 0; i < values.length; i++) {
+            cumulative += weights[i];
+            if (r < cumulative) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static String[] sample(Random random, String[] values, double[] weights, int count) {
+        Set<String> picked = new LinkedHashSet<>();
+        int attempts = 0;
+        while (picked.size() < count && attempts++ < count * 10) {
+            picked.add(pick(random, values, weights));
+        }
+        return picked.toArray(new String[0]);
+    }
+}
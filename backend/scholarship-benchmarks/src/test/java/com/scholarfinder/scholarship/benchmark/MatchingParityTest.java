@@ -0,0 +1,122 @@
+package com.scholarfinder.scholarship.benchmark;
+
+import com.scholarfinder.scholarship.dto.MatchResult;
+import com.scholarfinder.scholarship.dto.MatchResult.CategoryScore;
+import com.scholarfinder.scholarship.dto.MatchResult.MatchBreakdown;
+import com.scholarfinder.scholarship.entity.Scholarship;
+import com.scholarfinder.scholarship.entity.StudentProfile;
+import com.scholarfinder.scholarship.service.CompiledScholarship;
+import com.scholarfinder.scholarship.service.StudentFeatureVector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the compiled, basis-point MatchingService with the former BigDecimal
+ * implementation ({@link BaselineMatchingService}) over the synthetic catalog.
+ *
+ * English proficiency (now compared through test concordance tables) and field of study
+ * (now matched as whole phrases with synonyms) were changed on purpose. Their category
+ * points are not compared, and the totals, qualities and eligibility are compared only
+ * for pairs where both implementations score those two categories the same.
+ */
+class MatchingParityTest {
+
+    private static final int SCHOLARSHIPS = 2_000;
+    private static final int STUDENTS = 50;
+    // Every n-th scholarship stores an empty eligible_levels array, which admits no level
+    private static final int EMPTY_LEVELS_EVERY = 10;
+
+    private List<StudentProfile> students;
+    private Map<Long, Scholarship> scholarshipsById;
+    private MatchingFixture fixture;
+    private BaselineMatchingService baseline;
+
+    @BeforeEach
+    void setUp() {
+        List<Scholarship> scholarships = SyntheticCatalog.scholarships(SCHOLARSHIPS, 42);
+        for (int i = 0; i < scholarships.size(); i += EMPTY_LEVELS_EVERY) {
+            scholarships.get(i).setEligibleLevels(new String[0]);
+        }
+        scholarshipsById = new HashMap<>();
+        for (Scholarship scholarship : scholarships) {
+            scholarshipsById.put(scholarship.getId(), scholarship);
+        }
+        students = SyntheticCatalog.students(STUDENTS, 7);
+        fixture = MatchingFixture.create(scholarships, students, false);
+        baseline = new BaselineMatchingService(fixture.config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    void calculateMatchAgreesWithBaselinePercentagesAndQualities() {
+        int compared = 0;
+        int emptyLevelsCompared = 0;
+        int pairs = 0;
+
+        for (StudentProfile student : students) {
+            StudentFeatureVector features = StudentFeatureVector.of(student);
+            for (CompiledScholarship compiled : fixture.index.snapshot().scholarships()) {
+                Scholarship scholarship = scholarshipsById.get(compiled.id());
+                MatchResult expected = baseline.calculateMatch(student, scholarship);
+                MatchResult actual = fixture.matchingService.calculateMatch(features, compiled);
+                String pair = "student " + student.getUserId() + ", scholarship " + scholarship.getId();
+                pairs++;
+
+                assertCategory(expected, actual, MatchBreakdown::getEducationLevel, pair);
+                assertCategory(expected, actual, MatchBreakdown::getAcademicPerformance, pair);
+                assertCategory(expected, actual, MatchBreakdown::getAge, pair);
+                assertCategory(expected, actual, MatchBreakdown::getNationality, pair);
+                assertCategory(expected, actual, MatchBreakdown::getFinancialNeed, pair);
+                assertCategory(expected, actual, MatchBreakdown::getSpecialCategories, pair);
+
+                if (earned(expected, MatchBreakdown::getEnglishProficiency) != earned(actual, MatchBreakdown::getEnglishProficiency)
+                        || earned(expected, MatchBreakdown::getFieldOfStudy) != earned(actual, MatchBreakdown::getFieldOfStudy)) {
+                    continue;
+                }
+
+                assertEquals(0, expected.getMatchPercentage().compareTo(actual.getMatchPercentage()),
+                    () -> "Match percentage for " + pair + ": expected " + expected.getMatchPercentage()
+                        + " but was " + actual.getMatchPercentage());
+                assertEquals(expected.getMatchQuality(), actual.getMatchQuality(), () -> "Match quality for " + pair);
+                assertEquals(expected.isEligible(), actual.isEligible(), () -> "Eligibility for " + pair);
+                compared++;
+                if (scholarship.getEligibleLevels() != null && scholarship.getEligibleLevels().length == 0) {
+                    emptyLevelsCompared++;
+                }
+            }
+        }
+
+        // Guard against the filter above quietly skipping most of the catalog
+        int total = pairs;
+        int agreeing = compared;
+        assertTrue(agreeing * 2 >= total, () -> "Only " + agreeing + " of " + total + " pairs were compared");
+        assertTrue(emptyLevelsCompared > 0, "No scholarship with empty eligible levels was compared");
+    }
+
+    private static void assertCategory(MatchResult expected, MatchResult actual,
+                                       Function<MatchBreakdown, CategoryScore> category, String pair) {
+        CategoryScore expectedScore = category.apply(expected.getBreakdown());
+        CategoryScore actualScore = category.apply(actual.getBreakdown());
+        assertEquals(expectedScore.getEarned(), actualScore.getEarned(),
+            () -> expectedScore.getCategory() + " points for " + pair);
+        assertEquals(0, expectedScore.getPercentage().compareTo(actualScore.getPercentage()),
+            () -> expectedScore.getCategory() + " percentage for " + pair);
+    }
+
+    private static int earned(MatchResult result, Function<MatchBreakdown, CategoryScore> category) {
+        return category.apply(result.getBreakdown()).getEarned();
+    }
+}
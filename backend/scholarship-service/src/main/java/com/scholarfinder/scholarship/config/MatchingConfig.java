@@ -15,7 +15,21 @@ public class MatchingConfig {
 
     private Weights weights = new Weights();
     private Thresholds thresholds = new Thresholds();
+    private Index index = new Index();
+    private Parallel parallel = new Parallel();
+    private Cache cache = new Cache();
+    private Candidates candidates = new Candidates();
+    private Materialized materialized = new Materialized();
+    private Batch batch = new Batch();
+    private Simulation simulation = new Simulation();
+    private Reload reload = new Reload();
+    private ProfileCache profileCache = new ProfileCache();
+    private Applications applications = new Applications();
+    private Metrics metrics = new Metrics();
 
+    /**
+     * Initial weights; runtime reloads are published through ScoringProfiles.
+     */
     @Data
     public static class Weights {
         private int educationLevel = 20;
@@ -39,4 +53,82 @@ public class MatchingConfig {
         private int excellentMatch = 90;
         private int goodMatch = 75;
     }
+
+    @Data
+    public static class Index {
+        private long refreshIntervalMs = 30000;
+        private long fullRebuildIntervalMs = 600000;
+    }
+
+    @Data
+    public static class Parallel {
+        // 0 = number of available processors
+        private int parallelism = 0;
+        private int sequentialThreshold = 2000;
+        private int batchSize = 512;
+    }
+
+    @Data
+    public static class Cache {
+        // Students whose score vectors are kept; 0 disables the cache
+        private int maxEntries = 2000;
+    }
+
+    @Data
+    public static class Candidates {
+        // Student profiles loaded per query during reverse matching
+        private int chunkSize = 500;
+    }
+
+    @Data
+    public static class Materialized {
+        // Maintain scholarships.match_scores and serve plain match requests from it
+        private boolean enabled = false;
+        private long refreshIntervalMs = 30000;
+        private int profileChunkSize = 200;
+        private int batchSize = 1000;
+    }
+
+    @Data
+    public static class Batch {
+        // Students accepted in one batch match request
+        private int maxStudents = 500;
+    }
+
+    @Data
+    public static class Simulation {
+        // Students whose per-category baselines are kept for what-if requests; 0 disables the cache
+        private int maxEntries = 100;
+    }
+
+    @Data
+    public static class Reload {
+        // Shared secret for the internal scoring admin API (X-Admin-Token); empty disables it
+        private String adminToken = "";
+        // How often each node checks the shared scoring_config row for a newer version
+        private long pollIntervalMs = 10000;
+    }
+
+    @Data
+    public static class ProfileCache {
+        // Student profiles kept in the near cache; 0 disables it
+        private int maxEntries = 5000;
+        // Hits are revalidated against the stored updated_at; this only ages out idle copies
+        private long ttlMs = 60000;
+    }
+
+    @Data
+    public static class Applications {
+        // Check for changed scholarships whose applications need re-scoring
+        private long refreshIntervalMs = 30000;
+        // Applications loaded and updated per JDBC batch when re-scoring
+        private int batchSize = 500;
+        private int maxTopCandidates = 100;
+    }
+
+    @Data
+    public static class Metrics {
+        // Time the category evaluators of one in this many evaluations; 0 disables
+        private int categorySampleRate = 1000;
+    }
 }
@@ -0,0 +1,20 @@
+package com.scholarfinder.scholarship.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for saved-scholarship deadline reminders.
+ * Values are loaded from application.yml under 'reminders' prefix.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "reminders")
+public class ReminderConfig {
+
+    private boolean enabled = true;
+    // Remind when a saved scholarship's deadline is at most this many days away
+    private int daysBeforeDeadline = 7;
+    private String cron = "0 0 8 * * *";
+}
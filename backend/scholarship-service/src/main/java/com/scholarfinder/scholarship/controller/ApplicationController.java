@@ -0,0 +1,78 @@
+package com.scholarfinder.scholarship.controller;
+
+import com.scholarfinder.scholarship.dto.ApiResponse;
+import com.scholarfinder.scholarship.dto.ApplicationDto;
+import com.scholarfinder.scholarship.dto.ApplicationSubmitRequest;
+import com.scholarfinder.scholarship.service.ApplicationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for scholarship applications.
+ */
+@RestController
+@RequestMapping("/api/scholarships")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ApplicationController {
+
+    private final ApplicationService applicationService;
+
+    /**
+     * Submit an application; its match score is computed on submission.
+     * 
+     * POST /api/scholarships/applications
+     * Body: ApplicationSubmitRequest
+     */
+    @PostMapping("/applications")
+    public ResponseEntity<ApiResponse<ApplicationDto>> submitApplication(@RequestBody ApplicationSubmitRequest request) {
+        log.info("Submitting application of student {} for scholarship {}",
+            request.getStudentUserId(), request.getScholarshipId());
+
+        try {
+            ApplicationDto application = applicationService.submit(request);
+            return ResponseEntity.ok(ApiResponse.success(application, "Application submitted successfully"));
+        } catch (Exception e) {
+            log.error("Error submitting application: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to submit application: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get the highest scoring applications for a scholarship.
+     * 
+     * GET /api/scholarships/{scholarshipId}/applications/top?limit=20
+     */
+    @GetMapping("/{scholarshipId}/applications/top")
+    public ResponseEntity<ApiResponse<List<ApplicationDto>>> getTopApplications(
+            @PathVariable Long scholarshipId,
+            @RequestParam(defaultValue = "20") Integer limit) {
+        List<ApplicationDto> applications = applicationService.getTopApplications(scholarshipId, limit);
+        return ResponseEntity.ok(ApiResponse.success(applications, "Top applications retrieved"));
+    }
+
+    /**
+     * Re-score every application of a scholarship, e.g. to backfill older applications.
+     * 
+     * POST /api/scholarships/{scholarshipId}/applications/rescore
+     */
+    @PostMapping("/{scholarshipId}/applications/rescore")
+    public ResponseEntity<ApiResponse<Integer>> rescoreApplications(@PathVariable Long scholarshipId) {
+        log.info("Re-scoring applications of scholarship {}", scholarshipId);
+
+        try {
+            int scored = applicationService.rescoreApplications(scholarshipId);
+            return ResponseEntity.ok(ApiResponse.success(scored, "Applications re-scored"));
+        } catch (Exception e) {
+            log.error("Error re-scoring applications: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to re-score applications: " + e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.scholarfinder.scholarship.controller;
+
+import com.scholarfinder.scholarship.dto.ApiResponse;
+import com.scholarfinder.scholarship.dto.SavedScholarshipDto;
+import com.scholarfinder.scholarship.dto.SavedScholarshipPageDto;
+import com.scholarfinder.scholarship.service.SavedScholarshipService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for students' saved scholarships.
+ */
+@RestController
+@RequestMapping("/api/scholarships/saved")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class SavedScholarshipController {
+
+    private final SavedScholarshipService savedScholarshipService;
+
+    /**
+     * Get a page of a student's saved scholarships, most recently saved first.
+     * 
+     * GET /api/scholarships/saved/{studentUserId}?cursor=&limit=20
+     */
+    @GetMapping("/{studentUserId}")
+    public ResponseEntity<ApiResponse<SavedScholarshipPageDto>> getSavedScholarships(
+            @PathVariable Long studentUserId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer limit) {
+        try {
+            SavedScholarshipPageDto page = savedScholarshipService.getSavedScholarships(studentUserId, cursor, limit);
+            return ResponseEntity.ok(ApiResponse.success(page, "Saved scholarships retrieved"));
+        } catch (Exception e) {
+            log.error("Error listing saved scholarships: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to list saved scholarships: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Save a scholarship for a student.
+     * 
+     * POST /api/scholarships/saved/{studentUserId}/{scholarshipId}
+     */
+    @PostMapping("/{studentUserId}/{scholarshipId}")
+    public ResponseEntity<ApiResponse<SavedScholarshipDto>> saveScholarship(
+            @PathVariable Long studentUserId,
+            @PathVariable Long scholarshipId) {
+        log.info("Saving scholarship {} for student {}", scholarshipId, studentUserId);
+
+        try {
+            SavedScholarshipDto saved = savedScholarshipService.save(studentUserId, scholarshipId);
+            return ResponseEntity.ok(ApiResponse.success(saved, "Scholarship saved"));
+        } catch (Exception e) {
+            log.error("Error saving scholarship: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to save scholarship: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Remove a saved scholarship.
+     * 
+     * DELETE /api/scholarships/saved/{studentUserId}/{scholarshipId}
+     */
+    @DeleteMapping("/{studentUserId}/{scholarshipId}")
+    public ResponseEntity<ApiResponse<Void>> removeSavedScholarship(
+            @PathVariable Long studentUserId,
+            @PathVariable Long scholarshipId) {
+        if (!savedScholarshipService.remove(studentUserId, scholarshipId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(ApiResponse.success(null, "Saved scholarship removed"));
+    }
+}
@@ -2,12 +2,21 @@ package com.scholarfinder.scholarship.controller;
 
 import com.scholarfinder.scholarship.dto.*;
 import com.scholarfinder.scholarship.entity.Scholarship;
+import com.scholarfinder.scholarship.service.CandidateMatchService;
+import com.scholarfinder.scholarship.service.MatchSimulationService;
 import com.scholarfinder.scholarship.service.ScholarshipService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +31,9 @@ import java.util.Map;
 public class ScholarshipController {
 
     private final ScholarshipService scholarshipService;
+    private final CandidateMatchService candidateMatchService;
+    private final MatchSimulationService matchSimulationService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Get matched scholarships for a student.
@@ -53,18 +65,109 @@ public class ScholarshipController {
             @PathVariable Long studentUserId,
             @RequestParam(defaultValue = "0") Integer minMatch,
             @RequestParam(defaultValue = "50") Integer limit,
-            @RequestParam(defaultValue = "MATCH_DESC") String sortBy) {
+            @RequestParam(defaultValue = "MATCH_DESC") String sortBy,
+            @RequestParam(defaultValue = "false") Boolean eligibleOnly,
+            @RequestParam(required = false) String cursor) {
         
         MatchRequest request = MatchRequest.builder()
             .studentUserId(studentUserId)
             .minimumMatchPercentage(minMatch)
             .limit(limit)
             .sortBy(sortBy)
+            .eligibleOnly(eligibleOnly)
+            .cursor(cursor)
             .build();
         
         return getMatches(request);
     }
 
+    /**
+     * Get matched scholarships for many students against one catalog snapshot.
+     * 
+     * POST /api/scholarships/matches/batch
+     * Body: BatchMatchRequest
+     */
+    @PostMapping("/matches/batch")
+    public ResponseEntity<ApiResponse<BatchMatchResponse>> getBatchMatches(@RequestBody BatchMatchRequest request) {
+        log.info("Getting batch scholarship matches for {} students",
+            request.getStudentUserIds() != null ? request.getStudentUserIds().size() : 0);
+        
+        try {
+            BatchMatchResponse matches = scholarshipService.getMatchesForStudents(request);
+            return ResponseEntity.ok(ApiResponse.success(matches, "Batch matches retrieved successfully"));
+        } catch (Exception e) {
+            log.error("Error getting batch matches: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to get batch matches: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Simulate how a student's matches change under a profile delta, without saving it.
+     * 
+     * POST /api/scholarships/matches/simulate
+     * Body: MatchSimulationRequest
+     */
+    @PostMapping("/matches/simulate")
+    public ResponseEntity<ApiResponse<MatchSimulationResponse>> simulateMatches(
+            @RequestBody MatchSimulationRequest request) {
+        log.debug("Simulating scholarship matches for student: {}", request.getStudentUserId());
+        
+        try {
+            MatchSimulationResponse simulation = matchSimulationService.simulate(request);
+            return ResponseEntity.ok(ApiResponse.success(simulation, "Simulation completed"));
+        } catch (Exception e) {
+            log.error("Error simulating matches: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to simulate matches: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Stream matched scholarships as newline-delimited JSON, one frame per match as soon
+     * as it clears the threshold, followed by a summary frame.
+     * 
+     * POST /api/scholarships/matches/stream (Accept: application/x-ndjson)
+     * Body: MatchRequest
+     */
+    @PostMapping(value = "/matches/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMatches(@RequestBody MatchRequest request) {
+        return streamMatches(request, false);
+    }
+
+    /**
+     * Same stream as server-sent events ("match" events, then one "summary" event).
+     * 
+     * POST /api/scholarships/matches/stream (Accept: text/event-stream)
+     * Body: MatchRequest
+     */
+    @PostMapping(value = "/matches/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMatchEvents(@RequestBody MatchRequest request) {
+        return streamMatches(request, true);
+    }
+
+    /**
+     * Server-sent event stream for a student by user ID, for browser EventSource clients.
+     * 
+     * GET /api/scholarships/matches/{studentUserId}/stream
+     */
+    @GetMapping(value = "/matches/{studentUserId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMatchEventsByUserId(
+            @PathVariable Long studentUserId,
+            @RequestParam(defaultValue = "0") Integer minMatch,
+            @RequestParam(defaultValue = "50") Integer limit,
+            @RequestParam(defaultValue = "false") Boolean eligibleOnly) {
+        
+        MatchRequest request = MatchRequest.builder()
+            .studentUserId(studentUserId)
+            .minimumMatchPercentage(minMatch)
+            .limit(limit)
+            .eligibleOnly(eligibleOnly)
+            .build();
+        
+        return streamMatches(request, true);
+    }
+
     /**
      * Get detailed match result for a specific student-scholarship pair.
      * 
@@ -88,18 +191,75 @@ public class ScholarshipController {
     }
 
     /**
-     * Get all active scholarships.
+     * Notify the service that a student's profile was updated.
+     * 
+     * POST /api/scholarships/students/{studentUserId}/profile-updated
+     */
+    @PostMapping("/students/{studentUserId}/profile-updated")
+    public ResponseEntity<ApiResponse<Void>> profileUpdated(@PathVariable Long studentUserId) {
+        log.debug("Profile updated for student {}", studentUserId);
+        scholarshipService.onStudentProfileUpdated(studentUserId);
+        return ResponseEntity.ok(ApiResponse.success(null, "Profile cache invalidated"));
+    }
+
+    /**
+     * Get the best matching students for a scholarship (reverse matching).
+     * 
+     * GET /api/scholarships/{scholarshipId}/candidates
+     */
+    @GetMapping("/{scholarshipId}/candidates")
+    public ResponseEntity<ApiResponse<CandidateMatchResponse>> getTopCandidates(
+            @PathVariable Long scholarshipId,
+            @RequestParam(defaultValue = "20") Integer limit,
+            @RequestParam(defaultValue = "false") Boolean eligibleOnly) {
+        
+        log.info("Getting top candidates for scholarship {}", scholarshipId);
+        
+        try {
+            CandidateMatchResponse response = candidateMatchService.findTopCandidates(
+                scholarshipId, limit, Boolean.TRUE.equals(eligibleOnly));
+            return ResponseEntity.ok(ApiResponse.success(response, "Candidates retrieved successfully"));
+        } catch (Exception e) {
+            log.error("Error getting candidates: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to get candidates: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get a page of active scholarships, earliest deadline first.
      * 
-     * GET /api/scholarships
+     * GET /api/scholarships?cursor=&limit=
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Scholarship>>> getActiveScholarships() {
-        List<Scholarship> scholarships = scholarshipService.getActiveScholarships();
-        return ResponseEntity.ok(ApiResponse.success(scholarships, "Scholarships retrieved"));
+    public ResponseEntity<ApiResponse<ScholarshipPageDto>> getActiveScholarships(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") Integer limit) {
+        try {
+            ScholarshipPageDto page = scholarshipService.getActiveScholarships(cursor, limit);
+            return ResponseEntity.ok(ApiResponse.success(page, "Scholarships retrieved"));
+        } catch (Exception e) {
+            log.error("Error listing scholarships: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to list scholarships: " + e.getMessage()));
+        }
     }
 
     /**
-     * Get scholarship by ID.
+     * Get active scholarships closing within the next {@code days} days, earliest deadline first.
+     * 
+     * GET /api/scholarships/closing-soon
+     */
+    @GetMapping("/closing-soon")
+    public ResponseEntity<ApiResponse<List<ScholarshipSummaryDto>>> getClosingSoonScholarships(
+            @RequestParam(defaultValue = "14") Integer days,
+            @RequestParam(defaultValue = "20") Integer limit) {
+        List<ScholarshipSummaryDto> scholarships = scholarshipService.getClosingSoonScholarships(days, limit);
+        return ResponseEntity.ok(ApiResponse.success(scholarships, "Closing soon scholarships retrieved"));
+    }
+
+    /**
+     * Get scholarship by ID, with the description and eligibility details list views omit.
      * 
      * GET /api/scholarships/{id}
      */
@@ -111,14 +271,61 @@ public class ScholarshipController {
     }
 
     /**
-     * Get featured scholarships.
+     * Get a page of featured scholarships, earliest deadline first.
      * 
-     * GET /api/scholarships/featured
+     * GET /api/scholarships/featured?cursor=&limit=
      */
     @GetMapping("/featured")
-    public ResponseEntity<ApiResponse<List<Scholarship>>> getFeaturedScholarships() {
-        List<Scholarship> scholarships = scholarshipService.getFeaturedScholarships();
-        return ResponseEntity.ok(ApiResponse.success(scholarships, "Featured scholarships retrieved"));
+    public ResponseEntity<ApiResponse<ScholarshipPageDto>> getFeaturedScholarships(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") Integer limit) {
+        try {
+            ScholarshipPageDto page = scholarshipService.getFeaturedScholarships(cursor, limit);
+            return ResponseEntity.ok(ApiResponse.success(page, "Featured scholarships retrieved"));
+        } catch (Exception e) {
+            log.error("Error listing featured scholarships: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to list featured scholarships: " + e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamMatches(MatchRequest request, boolean serverSentEvents) {
+        log.info("Streaming scholarship matches for student: {}", request.getStudentUserId());
+
+        // Runs on the MVC async executor, writing each frame as the service produces it
+        StreamingResponseBody body = out -> {
+            try {
+                MatchResponse summary = scholarshipService.streamMatchesForStudent(request,
+                    match -> writeFrame(out, MatchStreamEvent.match(match), serverSentEvents));
+                writeFrame(out, MatchStreamEvent.summary(summary), serverSentEvents);
+            } catch (UncheckedIOException e) {
+                log.debug("Match stream closed by client: {}", e.getMessage());
+            } catch (Exception e) {
+                log.error("Error streaming matches: {}", e.getMessage(), e);
+                writeFrame(out, MatchStreamEvent.error("Failed to get matches: " + e.getMessage()), serverSentEvents);
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(serverSentEvents ? MediaType.TEXT_EVENT_STREAM : MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    private void writeFrame(OutputStream out, MatchStreamEvent event, boolean serverSentEvents) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(event);
+            if (serverSentEvents) {
+                out.write(("event: " + event.getType() + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+                out.write(json);
+                out.write("\n\n".getBytes(StandardCharsets.UTF_8));
+            } else {
+                out.write(json);
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
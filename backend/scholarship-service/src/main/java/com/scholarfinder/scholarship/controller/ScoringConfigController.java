@@ -0,0 +1,85 @@
+package com.scholarfinder.scholarship.controller;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import com.scholarfinder.scholarship.dto.ApiResponse;
+import com.scholarfinder.scholarship.dto.ScoringConfigDto;
+import com.scholarfinder.scholarship.service.ScoringConfigService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Internal admin endpoints for the matching weights and thresholds.
+ *
+ * Mapped outside /api/scholarships/** so the gateway's scholarship route does not
+ * forward them, and without CORS. Every call must carry the shared secret from
+ * {@code matching.reload.admin-token} in the X-Admin-Token header, because the
+ * gateway's discovery locator still forwards /scholarship-service/** to any path.
+ */
+@RestController
+@RequestMapping("/internal/scoring")
+@RequiredArgsConstructor
+@Slf4j
+public class ScoringConfigController {
+
+    private final ScoringConfigService scoringConfigService;
+    private final MatchingConfig matchingConfig;
+
+    /**
+     * Get the weights and thresholds in effect, with their version.
+     *
+     * GET /internal/scoring
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<ScoringConfigDto>> getScoringConfig(
+            @RequestHeader(value = "X-Admin-Token", required = false) String adminToken) {
+        if (!authorized(adminToken)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(ApiResponse.success(scoringConfigService.getCurrent(), "Scoring config retrieved"));
+    }
+
+    /**
+     * Publish new weights and/or thresholds to every node without a restart.
+     *
+     * PUT /internal/scoring
+     * Body: ScoringConfigDto
+     */
+    @PutMapping
+    public ResponseEntity<ApiResponse<ScoringConfigDto>> reloadScoringConfig(
+            @RequestHeader(value = "X-Admin-Token", required = false) String adminToken,
+            @RequestBody ScoringConfigDto request) {
+        if (!authorized(adminToken)) {
+            return forbidden();
+        }
+        log.info("Reloading scoring config");
+
+        try {
+            ScoringConfigDto config = scoringConfigService.reload(request);
+            return ResponseEntity.ok(ApiResponse.success(config, "Scoring config reloaded"));
+        } catch (Exception e) {
+            log.error("Error reloading scoring config: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to reload scoring config: " + e.getMessage()));
+        }
+    }
+
+    private boolean authorized(String adminToken) {
+        String expected = matchingConfig.getReload().getAdminToken();
+        if (expected == null || expected.isBlank() || adminToken == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+            expected.getBytes(StandardCharsets.UTF_8), adminToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ResponseEntity<ApiResponse<ScoringConfigDto>> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+            .body(ApiResponse.error("Scoring admin API is disabled or the admin token is invalid"));
+    }
+}
@@ -0,0 +1,26 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a scholarship application with its match score.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationDto {
+
+    private Long id;
+    private Long scholarshipId;
+    private Long studentUserId;
+    private String status;
+    private BigDecimal matchScore;
+    private LocalDateTime submittedAt;
+}
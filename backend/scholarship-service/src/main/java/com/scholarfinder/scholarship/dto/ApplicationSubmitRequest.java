@@ -0,0 +1,24 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for submitting a scholarship application.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationSubmitRequest {
+
+    private Long studentUserId;
+    private Long scholarshipId;
+    private String coverLetter;
+    private String statementOfPurpose;
+
+    // Documents as a JSON string
+    private String documents;
+}
@@ -0,0 +1,85 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for matching many students in one call.
+ * The filters apply to every student in the batch.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchMatchRequest {
+
+    /**
+     * The students' user IDs.
+     */
+    private List<Long> studentUserIds;
+
+    /**
+     * Optional: Filter by specific scholarship IDs.
+     */
+    private List<Long> scholarshipIds;
+
+    /**
+     * Optional: Filter by education level (UNDERGRADUATE, POSTGRADUATE, PHD).
+     */
+    private String educationLevel;
+
+    /**
+     * Optional: Filter by country.
+     */
+    private String country;
+
+    /**
+     * Optional: Filter by scholarship type (FULL, PARTIAL).
+     */
+    private String scholarshipType;
+
+    /**
+     * Minimum match percentage to include (default: 0).
+     */
+    @Builder.Default
+    private Integer minimumMatchPercentage = 0;
+
+    /**
+     * Only return scholarships the student is eligible for (meets all mandatory criteria).
+     */
+    @Builder.Default
+    private Boolean eligibleOnly = false;
+
+    /**
+     * Maximum number of results to return per student.
+     */
+    @Builder.Default
+    private Integer limit = 50;
+
+    /**
+     * Sort order: MATCH_DESC, MATCH_ASC, DEADLINE_ASC, DEADLINE_DESC.
+     */
+    @Builder.Default
+    private String sortBy = "MATCH_DESC";
+
+    /**
+     * The single-student request for one member of the batch.
+     */
+    public MatchRequest toMatchRequest(Long studentUserId) {
+        return MatchRequest.builder()
+            .studentUserId(studentUserId)
+            .scholarshipIds(scholarshipIds)
+            .educationLevel(educationLevel)
+            .country(country)
+            .scholarshipType(scholarshipType)
+            .minimumMatchPercentage(minimumMatchPercentage != null ? minimumMatchPercentage : 0)
+            .eligibleOnly(eligibleOnly)
+            .limit(limit)
+            .sortBy(sortBy)
+            .build();
+    }
+}
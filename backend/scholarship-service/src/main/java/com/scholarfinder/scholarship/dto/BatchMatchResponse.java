@@ -0,0 +1,44 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for batch matching: one MatchResponse per student, in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchMatchResponse {
+
+    /**
+     * Number of distinct students requested.
+     */
+    private int studentsRequested;
+
+    /**
+     * Number of students matched successfully.
+     */
+    private int studentsMatched;
+
+    /**
+     * Version of the catalog snapshot every student was scored against.
+     */
+    private long catalogVersion;
+
+    /**
+     * Match results per student.
+     */
+    private List<MatchResponse> results;
+
+    /**
+     * Error message per student that could not be matched (e.g. no profile).
+     */
+    private Map<Long, String> errors;
+}
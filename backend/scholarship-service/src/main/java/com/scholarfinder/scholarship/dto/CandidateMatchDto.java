@@ -0,0 +1,25 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a student ranked against a scholarship.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateMatchDto {
+
+    private Long studentUserId;
+    private String studentName;
+    private BigDecimal matchPercentage;
+    private String matchQuality;
+    private boolean isEligible;
+    private String ineligibilityReason;
+}
@@ -0,0 +1,42 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for reverse matching: the best candidate students for a scholarship.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateMatchResponse {
+
+    private Long scholarshipId;
+    private String scholarshipTitle;
+
+    /**
+     * Total number of student profiles scored.
+     */
+    private int studentsAnalyzed;
+
+    /**
+     * Number of students failing no mandatory criterion.
+     */
+    private int eligibleStudents;
+
+    /**
+     * Student count per match percentage bucket ("0-9" ... "90-100"), over all students analyzed.
+     */
+    private Map<String, Integer> scoreHistogram;
+
+    /**
+     * Top candidates, best match first.
+     */
+    private List<CandidateMatchDto> candidates;
+}
@@ -0,0 +1,27 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for one scholarship whose match changes under a what-if simulation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchChangeDto {
+
+    private Long scholarshipId;
+    private String title;
+    private BigDecimal baselinePercentage;
+    private BigDecimal simulatedPercentage;
+    private String baselineQuality;
+    private String simulatedQuality;
+    private boolean baselineEligible;
+    private boolean simulatedEligible;
+}
@@ -52,6 +52,12 @@ public class MatchRequest {
     @Builder.Default
     private Integer minimumMatchPercentage = 0;
 
+    /**
+     * Only return scholarships the student is eligible for (meets all mandatory criteria).
+     */
+    @Builder.Default
+    private Boolean eligibleOnly = false;
+
     /**
      * Maximum number of results to return.
      */
@@ -63,4 +69,10 @@ public class MatchRequest {
      */
     @Builder.Default
     private String sortBy = "MATCH_DESC";
+
+    /**
+     * Optional: Cursor from a previous response's nextCursor, to fetch the next page.
+     * Only valid with sortBy MATCH_DESC.
+     */
+    private String cursor;
 }
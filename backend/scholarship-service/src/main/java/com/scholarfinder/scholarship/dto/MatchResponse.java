@@ -53,4 +53,9 @@ public class MatchResponse {
      * Suggestions for the student to improve their matches.
      */
     private List<String> improvementSuggestions;
+
+    /**
+     * Cursor for the next page of a MATCH_DESC request with a limit; null on the last page.
+     */
+    private String nextCursor;
 }
@@ -0,0 +1,65 @@
+package com.scholarfinder.scholarship.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Request DTO for a what-if simulation: a student plus the profile fields to try.
+ * Fields left null keep the saved profile value; nothing is persisted.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchSimulationRequest {
+
+    /**
+     * The student's user ID.
+     */
+    private Long studentUserId;
+
+    // Profile delta
+    private String intendedLevel;
+    private String grade1;
+    private String grade2;
+    private String grade3;
+    @JsonProperty("zScore")
+    private BigDecimal zScore;
+    private String alStream;
+    private String englishTest;
+    private String overallScore;
+    private LocalDate dateOfBirth;
+    private String nationality;
+    private String householdIncome;
+    private List<String> preferredFields;
+    private String sports;
+    private String leadership;
+    private String firstGeneration;
+    private String disability;
+    private String willingToReturn;
+
+    /**
+     * Minimum match percentage for a scholarship to count as a match (default: 0).
+     */
+    @Builder.Default
+    private Integer minimumMatchPercentage = 0;
+
+    /**
+     * Only count scholarships the student is eligible for.
+     */
+    @Builder.Default
+    private Boolean eligibleOnly = false;
+
+    /**
+     * Maximum number of changed scholarships to return.
+     */
+    @Builder.Default
+    private Integer limit = 50;
+}
@@ -0,0 +1,45 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a what-if simulation: how the student's match set changes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchSimulationResponse {
+
+    private Long studentId;
+
+    /**
+     * Scoring categories affected by the delta; only these were re-evaluated.
+     */
+    private List<String> changedCategories;
+
+    private int totalScholarshipsAnalyzed;
+
+    /**
+     * Matches passing the request filters with the saved profile.
+     */
+    private int baselineMatches;
+
+    /**
+     * Matches passing the request filters with the delta applied.
+     */
+    private int simulatedMatches;
+
+    private int newlyEligible;
+    private int noLongerEligible;
+
+    /**
+     * Scholarships whose percentage or eligibility changed, biggest gain first.
+     */
+    private List<MatchChangeDto> changes;
+}
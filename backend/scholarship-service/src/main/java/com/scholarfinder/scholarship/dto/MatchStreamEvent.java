@@ -0,0 +1,37 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One frame of a streamed match response: a matched scholarship, the final summary, or an error.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchStreamEvent {
+
+    public static final String MATCH = "match";
+    public static final String SUMMARY = "summary";
+    public static final String ERROR = "error";
+
+    private String type;
+    private ScholarshipMatchDto match;
+    private MatchResponse summary;
+    private String message;
+
+    public static MatchStreamEvent match(ScholarshipMatchDto match) {
+        return MatchStreamEvent.builder().type(MATCH).match(match).build();
+    }
+
+    public static MatchStreamEvent summary(MatchResponse summary) {
+        return MatchStreamEvent.builder().type(SUMMARY).summary(summary).build();
+    }
+
+    public static MatchStreamEvent error(String message) {
+        return MatchStreamEvent.builder().type(ERROR).message(message).build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A saved scholarship with its listing summary.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedScholarshipDto {
+
+    private Long id;
+    private Long scholarshipId;
+    private LocalDateTime savedAt;
+
+    // Null when the scholarship no longer exists
+    private ScholarshipSummaryDto scholarship;
+}
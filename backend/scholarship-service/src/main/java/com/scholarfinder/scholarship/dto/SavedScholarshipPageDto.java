@@ -0,0 +1,25 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a student's saved scholarships, most recently saved first.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedScholarshipPageDto {
+
+    private List<SavedScholarshipDto> savedScholarships;
+
+    /**
+     * Cursor for the next page (ID of the last saved entry); null on the last page.
+     */
+    private String nextCursor;
+}
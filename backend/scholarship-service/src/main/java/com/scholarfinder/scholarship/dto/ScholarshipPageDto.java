@@ -0,0 +1,25 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a scholarship listing, ordered by (applicationDeadline, id).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScholarshipPageDto {
+
+    private List<ScholarshipSummaryDto> scholarships;
+
+    /**
+     * Cursor for the next page ("deadline:id"); null on the last page.
+     */
+    private String nextCursor;
+}
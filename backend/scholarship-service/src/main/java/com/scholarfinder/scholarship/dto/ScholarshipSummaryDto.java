@@ -0,0 +1,31 @@
+package com.scholarfinder.scholarship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Lightweight scholarship DTO for list views, without the description and eligibility arrays.
+ * GET /api/scholarships/{id} returns the full scholarship.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScholarshipSummaryDto {
+
+    private Long id;
+    private String title;
+    private String provider; // Institution name
+    private String country;
+    private String scholarshipType;
+    private BigDecimal amount;
+    private String currency;
+    private String amountDisplay; // Formatted amount string
+    private LocalDate applicationDeadline;
+    private boolean isFeatured;
+}
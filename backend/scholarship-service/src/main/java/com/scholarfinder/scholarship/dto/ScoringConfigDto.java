@@ -0,0 +1,23 @@
+package com.scholarfinder.scholarship.dto;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for reading and reloading the matching weights and thresholds.
+ * On reload, a null section keeps its current values; version and totalWeight are ignored.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoringConfigDto {
+
+    private Long version;
+    private Integer totalWeight;
+    private MatchingConfig.Weights weights;
+    private MatchingConfig.Thresholds thresholds;
+}
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -42,6 +44,7 @@ public class Application {
     private String statementOfPurpose;
 
     // Documents stored as JSON
+    @JdbcTypeCode(SqlTypes.JSON)
     @Column(columnDefinition = "JSONB")
     private String documents;
 
@@ -59,6 +62,13 @@ public class Application {
     @Column(name = "match_score", precision = 5, scale = 2)
     private BigDecimal matchScore;
 
+    // What the match score was computed from, so stale scores can be found after a restart
+    @Column(name = "scholarship_updated_at")
+    private LocalDateTime scholarshipUpdatedAt;
+
+    @Column(name = "scoring_version")
+    private Long scoringVersion;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
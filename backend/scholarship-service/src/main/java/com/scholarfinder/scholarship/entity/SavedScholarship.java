@@ -0,0 +1,43 @@
+package com.scholarfinder.scholarship.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A scholarship bookmarked by a student.
+ */
+@Entity
+@Table(name = "saved_scholarships", schema = "scholarships")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedScholarship {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "scholarship_id", nullable = false)
+    private Long scholarshipId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // Set by the deadline reminder job once a reminder was queued
+    @Column(name = "reminder_sent_at")
+    private LocalDateTime reminderSentAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
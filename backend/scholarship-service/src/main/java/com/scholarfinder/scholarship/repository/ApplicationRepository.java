@@ -1,6 +1,7 @@
 package com.scholarfinder.scholarship.repository;
 
 import com.scholarfinder.scholarship.entity.Application;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -43,8 +44,9 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     long countByScholarshipId(Long scholarshipId);
 
     /**
-     * Get top candidates by match score.
+     * Get top candidates by match score, bounded by the page size.
+     * Served from idx_applications_scholarship_score.
      */
-    @Query("SELECT a FROM Application a WHERE a.scholarshipId = :scholarshipId ORDER BY a.matchScore DESC")
-    List<Application> findTopCandidates(@Param("scholarshipId") Long scholarshipId);
+    @Query("SELECT a FROM Application a WHERE a.scholarshipId = :scholarshipId ORDER BY a.matchScore DESC NULLS LAST")
+    List<Application> findTopCandidates(@Param("scholarshipId") Long scholarshipId, Pageable pageable);
 }
@@ -0,0 +1,86 @@
+package com.scholarfinder.scholarship.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC access to application match scores.
+ * Plain JDBC so a scholarship's applications can be re-scored with batched updates
+ * rather than loading and merging every entity.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicationScoreRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Application ID and applicant of one application.
+     */
+    public record Applicant(Long applicationId, Long studentId) {}
+
+    /**
+     * New match score of one application, with the scholarship {@code updated_at} and
+     * scoring version it was computed from. A null score keeps the stored one.
+     */
+    public record ScoreUpdate(Long applicationId, BigDecimal matchScore, LocalDateTime scholarshipUpdatedAt,
+                              long scoringVersion) {}
+
+    /**
+     * A scholarship with applications, and one combination of the versions its
+     * application scores were computed from.
+     */
+    public record ScoredVersion(Long scholarshipId, LocalDateTime scholarshipUpdatedAt, Long scoringVersion) {}
+
+    /**
+     * Distinct (scholarship, scholarship updated_at, scoring version) combinations over all
+     * applications; scores computed before versions were recorded show up as nulls.
+     */
+    public List<ScoredVersion> findScoredVersions() {
+        return jdbcTemplate.query(
+            "SELECT DISTINCT scholarship_id, scholarship_updated_at, scoring_version FROM scholarships.applications",
+            (rs, rowNum) -> {
+                Timestamp updatedAt = rs.getTimestamp("scholarship_updated_at");
+                long scoringVersion = rs.getLong("scoring_version");
+                return new ScoredVersion(rs.getLong("scholarship_id"),
+                    updatedAt != null ? updatedAt.toLocalDateTime() : null,
+                    rs.wasNull() ? null : scoringVersion);
+            });
+    }
+
+    /**
+     * Next chunk of a scholarship's applications after the given ID (keyset pagination).
+     */
+    public List<Applicant> findApplicants(Long scholarshipId, long afterId, int limit) {
+        return jdbcTemplate.query(
+            "SELECT id, student_id FROM scholarships.applications " +
+            "WHERE scholarship_id = ? AND id > ? ORDER BY id LIMIT ?",
+            (rs, rowNum) -> new Applicant(rs.getLong("id"), rs.getLong("student_id")),
+            scholarshipId, afterId, limit);
+    }
+
+    /**
+     * Write match scores in JDBC batches.
+     */
+    public void updateScores(List<ScoreUpdate> updates, int batchSize) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "UPDATE scholarships.applications SET match_score = COALESCE(?, match_score), " +
+            "scholarship_updated_at = ?, scoring_version = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?",
+            updates, batchSize, (ps, update) -> {
+                ps.setBigDecimal(1, update.matchScore());
+                ps.setTimestamp(2, update.scholarshipUpdatedAt() != null
+                    ? Timestamp.valueOf(update.scholarshipUpdatedAt()) : null);
+                ps.setLong(3, update.scoringVersion());
+                ps.setLong(4, update.applicationId());
+            });
+    }
+}
@@ -0,0 +1,51 @@
+package com.scholarfinder.scholarship.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access for bulk deadline reminders on saved scholarships.
+ * One statement marks every due saved entry and queues its email, so the job
+ * never iterates per student.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeadlineReminderRepository {
+
+    // Marking and queueing happen in one statement: concurrent runs block on the
+    // row locks and re-check reminder_sent_at, so a reminder is queued only once.
+    // Only entries of active users are marked, so a reminder for a user who is
+    // inactive now is still sent if they are reactivated before the deadline.
+    // Rows go to the notification-service outbox as PENDING emails.
+    private static final String QUEUE_REMINDERS_SQL =
+        "WITH due AS (" +
+        "  UPDATE scholarships.saved_scholarships ss SET reminder_sent_at = CURRENT_TIMESTAMP " +
+        "  FROM scholarships.scholarships s, auth.users u " +
+        "  WHERE s.id = ss.scholarship_id AND ss.reminder_sent_at IS NULL AND s.status = 'ACTIVE' " +
+        "    AND s.application_deadline BETWEEN CURRENT_DATE AND CURRENT_DATE + ? " +
+        "    AND u.id = ss.student_id AND u.is_active " +
+        "  RETURNING ss.student_id, u.email, s.id AS scholarship_id, s.title, s.application_deadline" +
+        ") " +
+        "INSERT INTO notifications.email_notifications (recipient_email, recipient_name, subject, body, " +
+        "  template_name, template_data, status, notification_type, reference_id, reference_type) " +
+        "SELECT due.email, p.full_name, " +
+        "  'Deadline approaching: ' || due.title, " +
+        "  'The application deadline for ' || due.title || ' is ' || TO_CHAR(due.application_deadline, 'YYYY-MM-DD') || '.', " +
+        "  'deadline-reminder', " +
+        "  JSON_BUILD_OBJECT('scholarshipId', due.scholarship_id, 'title', due.title, " +
+        "    'deadline', due.application_deadline)::TEXT, " +
+        "  'PENDING', 'DEADLINE_REMINDER', due.scholarship_id, 'SCHOLARSHIP' " +
+        "FROM due " +
+        "LEFT JOIN users.student_profiles p ON p.user_id = due.student_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Queue reminders for saved scholarships whose deadline is within the given number
+     * of days and which have not been reminded yet. Returns the number of emails queued.
+     */
+    public int queueReminders(int daysBeforeDeadline) {
+        return jdbcTemplate.update(QUEUE_REMINDERS_SQL, daysBeforeDeadline);
+    }
+}
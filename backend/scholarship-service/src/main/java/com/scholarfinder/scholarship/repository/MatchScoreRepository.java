@@ -0,0 +1,110 @@
+package com.scholarfinder.scholarship.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access to the materialized scholarships.match_scores table.
+ * Plain JDBC so rows can be written with batched upserts rather than entity merges.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchScoreRepository {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO scholarships.match_scores (student_id, scholarship_id, score, quality, eligible, computed_at) " +
+        "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (student_id, scholarship_id) DO UPDATE SET " +
+        "score = EXCLUDED.score, quality = EXCLUDED.quality, eligible = EXCLUDED.eligible, " +
+        "computed_at = EXCLUDED.computed_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * One materialized student-scholarship score.
+     */
+    public record MatchScoreRow(Long studentId, Long scholarshipId, BigDecimal score, String quality,
+                                boolean eligible) {}
+
+    /**
+     * Insert or update rows in JDBC batches.
+     */
+    public void upsertAll(List<MatchScoreRow> rows, int batchSize) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, batchSize, (ps, row) -> {
+            ps.setLong(1, row.studentId());
+            ps.setLong(2, row.scholarshipId());
+            ps.setBigDecimal(3, row.score());
+            ps.setString(4, row.quality());
+            ps.setBoolean(5, row.eligible());
+        });
+    }
+
+    /**
+     * Drop every row for a scholarship that left the active catalog.
+     */
+    public int deleteByScholarshipId(Long scholarshipId) {
+        return jdbcTemplate.update("DELETE FROM scholarships.match_scores WHERE scholarship_id = ?", scholarshipId);
+    }
+
+    /**
+     * Number of materialized rows for a student.
+     */
+    public int countByStudentId(Long studentId) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM scholarships.match_scores WHERE student_id = ?", Integer.class, studentId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Rows per quality for a student at or above the minimum score.
+     */
+    public Map<String, Integer> countByQuality(Long studentId, BigDecimal minScore, boolean eligibleOnly) {
+        String sql = "SELECT quality, COUNT(*) AS matches FROM scholarships.match_scores " +
+            "WHERE student_id = ? AND score >= ?" + (eligibleOnly ? " AND eligible" : "") +
+            " GROUP BY quality";
+        Map<String, Integer> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getString("quality"), rs.getInt("matches"));
+        }, studentId, minScore);
+        return counts;
+    }
+
+    /**
+     * Next page of a student's rows, best score first, after the (score, scholarship_id) cursor.
+     * Served from idx_match_scores_student_score.
+     */
+    public List<MatchScoreRow> findPage(Long studentId, BigDecimal minScore, boolean eligibleOnly,
+                                        BigDecimal afterScore, Long afterScholarshipId, int limit) {
+        StringBuilder sql = new StringBuilder(
+            "SELECT student_id, scholarship_id, score, quality, eligible FROM scholarships.match_scores " +
+            "WHERE student_id = ? AND score >= ?");
+        List<Object> args = new ArrayList<>(List.of(studentId, minScore));
+        if (eligibleOnly) {
+            sql.append(" AND eligible");
+        }
+        if (afterScore != null && afterScholarshipId != null) {
+            sql.append(" AND (score, scholarship_id) < (?, ?)");
+            args.add(afterScore);
+            args.add(afterScholarshipId);
+        }
+        sql.append(" ORDER BY score DESC, scholarship_id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new MatchScoreRow(
+            rs.getLong("student_id"),
+            rs.getLong("scholarship_id"),
+            rs.getBigDecimal("score"),
+            rs.getString("quality"),
+            rs.getBoolean("eligible")), args.toArray());
+    }
+}
@@ -0,0 +1,29 @@
+package com.scholarfinder.scholarship.repository;
+
+import com.scholarfinder.scholarship.entity.SavedScholarship;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedScholarshipRepository extends JpaRepository<SavedScholarship, Long> {
+
+    /**
+     * Find a saved entry by student and scholarship.
+     */
+    Optional<SavedScholarship> findByStudentIdAndScholarshipId(Long studentId, Long scholarshipId);
+
+    /**
+     * First page of a student's saved scholarships, most recently saved first.
+     * Served from idx_saved_scholarships_student_id.
+     */
+    List<SavedScholarship> findByStudentIdOrderByIdDesc(Long studentId, Pageable pageable);
+
+    /**
+     * Next page of a student's saved scholarships before the given ID (keyset pagination).
+     */
+    List<SavedScholarship> findByStudentIdAndIdLessThanOrderByIdDesc(Long studentId, Long id, Pageable pageable);
+}
@@ -7,10 +7,11 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface ScholarshipRepository extends JpaRepository<Scholarship, Long> {
+public interface ScholarshipRepository extends JpaRepository<Scholarship, Long>, ScholarshipRepositoryCustom {
 
     /**
      * Find all active scholarships with deadline in the future.
@@ -23,27 +24,21 @@ public interface ScholarshipRepository extends JpaRepository<Scholarship, Long>
      */
     List<Scholarship> findByInstitutionIdAndStatus(Long institutionId, String status);
 
-    /**
-     * Find scholarships matching education level.
-     */
-    @Query("SELECT s FROM Scholarship s WHERE s.status = 'ACTIVE' AND :level = ANY(s.eligibleLevels) AND s.applicationDeadline >= :today")
-    List<Scholarship> findByEducationLevel(@Param("level") String level, @Param("today") LocalDate today);
-
     /**
      * Find featured scholarships.
      */
     @Query("SELECT s FROM Scholarship s WHERE s.status = 'ACTIVE' AND s.isFeatured = true AND s.applicationDeadline >= :today ORDER BY s.applicationDeadline ASC")
     List<Scholarship> findFeaturedScholarships(@Param("today") LocalDate today);
 
-    /**
-     * Find scholarships by country.
-     */
-    @Query("SELECT s FROM Scholarship s WHERE s.status = 'ACTIVE' AND :country = ANY(s.eligibleCountries) AND s.applicationDeadline >= :today")
-    List<Scholarship> findByCountry(@Param("country") String country, @Param("today") LocalDate today);
-
     /**
      * Count active scholarships.
      */
     @Query("SELECT COUNT(s) FROM Scholarship s WHERE s.status = 'ACTIVE' AND s.applicationDeadline >= :today")
     long countActiveScholarships(@Param("today") LocalDate today);
+
+    /**
+     * Find scholarships written at or after the given time, in any status.
+     */
+    @Query("SELECT s FROM Scholarship s WHERE s.updatedAt >= :since")
+    List<Scholarship> findUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,25 @@
+package com.scholarfinder.scholarship.repository;
+
+import com.scholarfinder.scholarship.entity.Scholarship;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Scholarship queries whose WHERE clause depends on which filters are given.
+ */
+public interface ScholarshipRepositoryCustom {
+
+    /**
+     * Scholarships with the given IDs that pass the optional level, country and type
+     * filters, with the same per-column semantics as the in-memory EligibilityPrefilter:
+     * <ul>
+     *   <li>level: a null eligible_levels admits every level, an empty array admits none;
+     *       levels are upper-case codes and match exactly.</li>
+     *   <li>country: a null or empty eligible_countries admits every country, as in the
+     *       nationality score; names match case-insensitively.</li>
+     *   <li>type: scholarship_type matches case-insensitively.</li>
+     * </ul>
+     */
+    List<Scholarship> findByIdsAndFilters(Collection<Long> ids, String level, String country, String scholarshipType);
+}
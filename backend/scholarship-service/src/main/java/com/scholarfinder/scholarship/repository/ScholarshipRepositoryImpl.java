@@ -0,0 +1,64 @@
+package com.scholarfinder.scholarship.repository;
+
+import com.scholarfinder.scholarship.entity.Scholarship;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Native SQL for {@link ScholarshipRepositoryCustom}. Only the filters that are set
+ * are added to the query, so rows are filtered by PostgreSQL instead of being loaded
+ * and filtered in Java.
+ */
+public class ScholarshipRepositoryImpl implements ScholarshipRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<Scholarship> findByIdsAndFilters(Collection<Long> ids, String level, String country,
+                                                 String scholarshipType) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder sql = new StringBuilder("SELECT * FROM scholarships.scholarships s WHERE s.id IN (:ids)");
+        List<String> names = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+
+        if (level != null && !level.isEmpty()) {
+            // Levels are stored as upper-case codes; NULL admits every level, an empty array none
+            sql.append(" AND (s.eligible_levels IS NULL OR s.eligible_levels @> ARRAY[CAST(:level AS TEXT)])");
+            names.add("level");
+            values.add(level.toUpperCase());
+        }
+        if (country != null && !country.isEmpty()) {
+            // NULL or an empty array admits every country, matching the nationality score.
+            // Names are stored as entered, so compare case-insensitively; the id list
+            // already bounds the rows this predicate sees
+            sql.append(" AND (s.eligible_countries IS NULL OR s.eligible_countries = '{}'" +
+                       " OR EXISTS (SELECT 1 FROM unnest(s.eligible_countries) c WHERE UPPER(c) = :country))");
+            names.add("country");
+            values.add(country.toUpperCase());
+        }
+        if (scholarshipType != null && !scholarshipType.isEmpty()) {
+            sql.append(" AND UPPER(s.scholarship_type) = :scholarshipType");
+            names.add("scholarshipType");
+            values.add(scholarshipType.toUpperCase());
+        }
+        sql.append(" ORDER BY s.application_deadline ASC, s.id ASC");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Scholarship.class);
+        query.setParameter("ids", ids);
+        for (int i = 0; i < names.size(); i++) {
+            query.setParameter(names.get(i), values.get(i));
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.scholarfinder.scholarship.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC access to the single-row scholarships.scoring_config table, the one source of
+ * published matching weights and thresholds for every scholarship-service node.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScoringConfigRepository {
+
+    /**
+     * Published configuration as JSON (ScoringConfigDto weights and thresholds) with its global version.
+     */
+    public record PublishedConfig(long version, String config) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The latest published configuration, if anything was ever published.
+     */
+    public Optional<PublishedConfig> findCurrent() {
+        List<PublishedConfig> rows = jdbcTemplate.query(
+            "SELECT version, config FROM scholarships.scoring_config WHERE id = 1",
+            (rs, rowNum) -> new PublishedConfig(rs.getLong("version"), rs.getString("config")));
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Store a new configuration and return its version. Versions start at 2 because
+     * version 1 is the application.yml configuration every node starts from; the row
+     * lock serializes concurrent publishes so each gets its own version.
+     */
+    public long publish(String config) {
+        Long version = jdbcTemplate.queryForObject(
+            "INSERT INTO scholarships.scoring_config (id, version, config, updated_at) " +
+            "VALUES (1, 2, CAST(? AS JSONB), CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (id) DO UPDATE SET version = scholarships.scoring_config.version + 1, " +
+            "config = EXCLUDED.config, updated_at = EXCLUDED.updated_at " +
+            "RETURNING version",
+            Long.class, config);
+        return version;
+    }
+}
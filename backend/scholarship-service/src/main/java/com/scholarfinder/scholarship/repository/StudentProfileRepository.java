@@ -1,14 +1,28 @@
 package com.scholarfinder.scholarship.repository;
 
 import com.scholarfinder.scholarship.entity.StudentProfile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StudentProfileRepository extends JpaRepository<StudentProfile, Long> {
 
+    /**
+     * User ID and last update time of a profile, to revalidate cached copies.
+     */
+    interface ProfileVersion {
+        Long getUserId();
+        LocalDateTime getUpdatedAt();
+    }
+
     /**
      * Find student profile by user ID.
      */
@@ -18,4 +32,25 @@ public interface StudentProfileRepository extends JpaRepository<StudentProfile,
      * Check if profile exists for user.
      */
     boolean existsByUserId(Long userId);
+
+    /**
+     * Find the profiles of many users in one query.
+     */
+    List<StudentProfile> findAllByUserIdIn(Collection<Long> userIds);
+
+    /**
+     * Last update times of the given users' profiles, without loading the profiles.
+     */
+    @Query("SELECT p.userId AS userId, p.updatedAt AS updatedAt FROM StudentProfile p WHERE p.userId IN :userIds")
+    List<ProfileVersion> findVersionsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Next chunk of profiles after the given ID (keyset pagination).
+     */
+    List<StudentProfile> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Profiles changed after the given time, oldest change first.
+     */
+    List<StudentProfile> findByUpdatedAtAfterOrderByUpdatedAtAsc(LocalDateTime since);
 }
@@ -0,0 +1,187 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import com.scholarfinder.scholarship.dto.ApplicationDto;
+import com.scholarfinder.scholarship.dto.ApplicationSubmitRequest;
+import com.scholarfinder.scholarship.entity.Application;
+import com.scholarfinder.scholarship.entity.StudentProfile;
+import com.scholarfinder.scholarship.repository.ApplicationRepository;
+import com.scholarfinder.scholarship.repository.ApplicationScoreRepository;
+import com.scholarfinder.scholarship.repository.ApplicationScoreRepository.Applicant;
+import com.scholarfinder.scholarship.repository.ApplicationScoreRepository.ScoreUpdate;
+import com.scholarfinder.scholarship.repository.ApplicationScoreRepository.ScoredVersion;
+import com.scholarfinder.scholarship.repository.ScholarshipRepository;
+import com.scholarfinder.scholarship.repository.StudentProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Scholarship applications and their match scores.
+ *
+ * An application is scored with the compiled matcher when it is submitted, and the
+ * scholarship {@code updated_at} and scoring version the score was computed from are
+ * stored with it. A scheduled sync compares those persisted versions with the index
+ * snapshot and the current scoring profile, so edits made while the node was down and
+ * newly published weights are caught too, and re-scores every application of an open
+ * scholarship whose scores are stale, reading applicants and writing scores in JDBC
+ * batches of {@code matching.applications.batch-size}. Applications of closed
+ * scholarships keep their last score.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationService {
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationScoreRepository applicationScoreRepository;
+    private final ScholarshipRepository scholarshipRepository;
+    private final StudentProfileRepository studentProfileRepository;
+    private final StudentProfileCache studentProfileCache;
+    private final CompiledScholarshipIndex scholarshipIndex;
+    private final MatchingService matchingService;
+    private final MatchingConfig matchingConfig;
+
+    // Versions of the last completed sync; nothing can be stale until one of them changes
+    private long syncedCatalogVersion = -1;
+    private long syncedScoringVersion = -1;
+
+    /**
+     * Submit an application, scoring it against the scholarship's current criteria.
+     */
+    @Transactional
+    public ApplicationDto submit(ApplicationSubmitRequest request) {
+        if (request.getStudentUserId() == null || request.getScholarshipId() == null) {
+            throw new RuntimeException("Student user ID and scholarship ID are required");
+        }
+        CompiledScholarship scholarship = scholarshipIndex.snapshot().find(request.getScholarshipId())
+            .orElseThrow(() -> new RuntimeException("Scholarship is not open for applications"));
+        if (applicationRepository.existsByStudentIdAndScholarshipId(request.getStudentUserId(), request.getScholarshipId())) {
+            throw new RuntimeException("Student has already applied to this scholarship");
+        }
+        StudentProfile student = studentProfileCache.get(request.getStudentUserId())
+            .orElseThrow(() -> new RuntimeException("Student profile not found for user: " + request.getStudentUserId()));
+
+        ScoringProfile scoringProfile = matchingService.scoringProfile();
+        MatchScore score = matchingService.score(StudentFeatureVector.of(student), scholarship, scoringProfile);
+        Application application = applicationRepository.save(Application.builder()
+            .scholarshipId(request.getScholarshipId())
+            .studentId(request.getStudentUserId())
+            .coverLetter(request.getCoverLetter())
+            .statementOfPurpose(request.getStatementOfPurpose())
+            .documents(request.getDocuments())
+            .matchScore(score.getMatchPercentage())
+            .scholarshipUpdatedAt(scholarship.details().updatedAt())
+            .scoringVersion(scoringProfile.version())
+            .build());
+
+        log.info("Application {} submitted by student {} for scholarship {} with match score {}",
+            application.getId(), request.getStudentUserId(), request.getScholarshipId(), application.getMatchScore());
+        return mapToDto(application);
+    }
+
+    /**
+     * Highest scoring applications for a scholarship.
+     */
+    @Transactional(readOnly = true)
+    public List<ApplicationDto> getTopApplications(Long scholarshipId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), matchingConfig.getApplications().getMaxTopCandidates());
+        return applicationRepository.findTopCandidates(scholarshipId, PageRequest.of(0, pageSize)).stream()
+            .map(this::mapToDto)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Re-score every application of a scholarship against its current criteria.
+     * Returns the number of applications scored.
+     */
+    public int rescoreApplications(Long scholarshipId) {
+        CompiledScholarship scholarship = scholarshipIndex.snapshot().find(scholarshipId)
+            .orElseGet(() -> scholarshipRepository.findById(scholarshipId)
+                .map(CompiledScholarship::compile)
+                .orElseThrow(() -> new RuntimeException("Scholarship not found")));
+        return rescore(scholarship, matchingService.scoringProfile());
+    }
+
+    @Scheduled(fixedDelayString = "${matching.applications.refresh-interval-ms:30000}")
+    public synchronized void syncChangedScholarships() {
+        CompiledScholarshipIndex.Snapshot current = scholarshipIndex.snapshot();
+        if (current.version() == 0) {
+            return; // Index not loaded yet
+        }
+        ScoringProfile scoringProfile = matchingService.scoringProfile();
+        if (current.version() == syncedCatalogVersion && scoringProfile.version() == syncedScoringVersion) {
+            return;
+        }
+
+        Set<Long> stale = new LinkedHashSet<>();
+        for (ScoredVersion scored : applicationScoreRepository.findScoredVersions()) {
+            Optional<CompiledScholarship> scholarship = current.find(scored.scholarshipId());
+            if (scholarship.isPresent()
+                    && (!Objects.equals(scored.scholarshipUpdatedAt(), scholarship.get().details().updatedAt())
+                        || !Objects.equals(scored.scoringVersion(), scoringProfile.version()))) {
+                stale.add(scored.scholarshipId());
+            }
+        }
+        for (Long scholarshipId : stale) {
+            int scored = rescore(current.find(scholarshipId).orElseThrow(), scoringProfile);
+            log.debug("Re-scored {} applications of scholarship {}", scored, scholarshipId);
+        }
+        syncedCatalogVersion = current.version();
+        syncedScoringVersion = scoringProfile.version();
+    }
+
+    private int rescore(CompiledScholarship scholarship, ScoringProfile scoringProfile) {
+        int batchSize = Math.max(matchingConfig.getApplications().getBatchSize(), 1);
+        LocalDateTime scholarshipUpdatedAt = scholarship.details().updatedAt();
+        int scored = 0;
+        long lastId = 0;
+        List<Applicant> chunk;
+        do {
+            chunk = applicationScoreRepository.findApplicants(scholarship.id(), lastId, batchSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            Set<Long> studentIds = chunk.stream().map(Applicant::studentId).collect(Collectors.toSet());
+            Map<Long, StudentProfile> profiles = studentProfileRepository.findAllByUserIdIn(studentIds).stream()
+                .collect(Collectors.toMap(StudentProfile::getUserId, p -> p, (a, b) -> a));
+
+            List<ScoreUpdate> updates = new ArrayList<>(chunk.size());
+            for (Applicant applicant : chunk) {
+                StudentProfile profile = profiles.get(applicant.studentId());
+                // Profile deleted: keep the last score but record the versions, so it is not picked up again
+                BigDecimal matchScore = null;
+                if (profile != null) {
+                    matchScore = matchingService.score(StudentFeatureVector.of(profile), scholarship, scoringProfile)
+                        .getMatchPercentage();
+                    scored++;
+                }
+                updates.add(new ScoreUpdate(applicant.applicationId(), matchScore, scholarshipUpdatedAt,
+                    scoringProfile.version()));
+            }
+            applicationScoreRepository.updateScores(updates, batchSize);
+
+            lastId = chunk.get(chunk.size() - 1).applicationId();
+        } while (chunk.size() == batchSize);
+        return scored;
+    }
+
+    private ApplicationDto mapToDto(Application application) {
+        return ApplicationDto.builder()
+            .id(application.getId())
+            .scholarshipId(application.getScholarshipId())
+            .studentUserId(application.getStudentId())
+            .status(application.getStatus())
+            .matchScore(application.getMatchScore())
+            .submittedAt(application.getCreatedAt())
+            .build();
+    }
+}
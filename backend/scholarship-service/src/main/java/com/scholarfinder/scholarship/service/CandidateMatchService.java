@@ -0,0 +1,132 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import com.scholarfinder.scholarship.dto.CandidateMatchDto;
+import com.scholarfinder.scholarship.dto.CandidateMatchResponse;
+import com.scholarfinder.scholarship.entity.StudentProfile;
+import com.scholarfinder.scholarship.repository.ScholarshipRepository;
+import com.scholarfinder.scholarship.repository.StudentProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Reverse matching: ranks student profiles against one scholarship.
+ *
+ * Profiles are streamed in keyset-paged chunks and scored with the same rules as
+ * {@link MatchingService}; only a bounded top-N heap and a score histogram are kept,
+ * so memory does not grow with the number of students. The scan is not transactional:
+ * each chunk is read in its own repository transaction, so its profiles are detached
+ * and collectable once scored.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateMatchService {
+
+    private static final int HISTOGRAM_BUCKETS = 10;
+
+    private final StudentProfileRepository studentProfileRepository;
+    private final ScholarshipRepository scholarshipRepository;
+    private final CompiledScholarshipIndex scholarshipIndex;
+    private final MatchingService matchingService;
+    private final MatchingConfig matchingConfig;
+
+    private record Candidate(Long userId, String name, MatchScore score) {}
+
+    // Best first: highest score, then lowest user ID
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+        .comparingInt((Candidate c) -> c.score().getBasisPoints()).reversed()
+        .thenComparing(Candidate::userId);
+
+    /**
+     * Find the top candidate students for a scholarship.
+     */
+    public CandidateMatchResponse findTopCandidates(Long scholarshipId, int limit, boolean eligibleOnly) {
+        log.info("Ranking candidate students for scholarship: {}", scholarshipId);
+
+        CompiledScholarship scholarship = scholarshipIndex.snapshot().find(scholarshipId)
+            .orElseGet(() -> scholarshipRepository.findById(scholarshipId)
+                .map(CompiledScholarship::compile)
+                .orElseThrow(() -> new RuntimeException("Scholarship not found")));
+
+        int topN = Math.max(limit, 0);
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(Math.min(topN, 64) + 1, BEST_FIRST.reversed());
+        int[] histogram = new int[HISTOGRAM_BUCKETS];
+        int analyzed = 0;
+        int eligible = 0;
+
+        // One weights version for the whole scan
+        ScoringProfile scoringProfile = matchingService.scoringProfile();
+        int chunkSize = Math.max(matchingConfig.getCandidates().getChunkSize(), 1);
+        long lastId = 0;
+        List<StudentProfile> chunk;
+        do {
+            chunk = studentProfileRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, chunkSize));
+
+            for (StudentProfile profile : chunk) {
+                MatchScore score = matchingService.score(StudentFeatureVector.of(profile), scholarship, scoringProfile);
+                analyzed++;
+                histogram[Math.min(score.getPercentage() / 10, HISTOGRAM_BUCKETS - 1)]++;
+                if (score.isEligible()) {
+                    eligible++;
+                } else if (eligibleOnly) {
+                    continue;
+                }
+
+                if (topN == 0) {
+                    continue;
+                }
+                Candidate candidate = new Candidate(profile.getUserId(), profile.getFullName(), score);
+                if (heap.size() < topN) {
+                    heap.add(candidate);
+                } else if (BEST_FIRST.compare(candidate, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(candidate);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == chunkSize);
+
+        List<Candidate> ranked = new ArrayList<>(heap);
+        ranked.sort(BEST_FIRST);
+        List<CandidateMatchDto> candidates = new ArrayList<>(ranked.size());
+        for (Candidate candidate : ranked) {
+            candidates.add(CandidateMatchDto.builder()
+                .studentUserId(candidate.userId())
+                .studentName(candidate.name())
+                .matchPercentage(candidate.score().getMatchPercentage())
+                .matchQuality(candidate.score().getQuality().name())
+                .isEligible(candidate.score().isEligible())
+                .ineligibilityReason(candidate.score().getIneligibilityReason())
+                .build());
+        }
+
+        log.debug("Scored {} students for scholarship {}, {} eligible", analyzed, scholarshipId, eligible);
+
+        return CandidateMatchResponse.builder()
+            .scholarshipId(scholarship.id())
+            .scholarshipTitle(scholarship.details().title())
+            .studentsAnalyzed(analyzed)
+            .eligibleStudents(eligible)
+            .scoreHistogram(toHistogram(histogram))
+            .candidates(candidates)
+            .build();
+    }
+
+    private Map<String, Integer> toHistogram(int[] buckets) {
+        Map<String, Integer> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length; i++) {
+            int from = i * 10;
+            int to = i == buckets.length - 1 ? 100 : from + 9;
+            histogram.put(from + "-" + to, buckets[i]);
+        }
+        return histogram;
+    }
+}
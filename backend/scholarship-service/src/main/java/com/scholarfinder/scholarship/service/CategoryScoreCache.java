@@ -0,0 +1,79 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded LRU cache of per-student {@link CategoryVector}s for what-if simulations.
+ *
+ * Same validity rules as {@link MatchScoreCache}: an entry is served only while the
+ * profile {@code updatedAt}, catalog version and scoring version match. Kept separate and smaller,
+ * since a category vector is several times the size of a match vector and only
+ * students actively simulating need one.
+ */
+@Component
+@Slf4j
+public class CategoryScoreCache {
+
+    private final int maxEntries;
+    private final Map<Long, CategoryVector> entries;
+    private long catalogVersion;
+    private long scoringVersion;
+
+    public CategoryScoreCache(MatchingConfig matchingConfig) {
+        this.maxEntries = matchingConfig.getSimulation().getMaxEntries();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CategoryVector> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Cached baseline for a student, if it was built against the same profile, catalog and scoring versions.
+     */
+    public synchronized Optional<CategoryVector> get(Long studentUserId, LocalDateTime profileVersion,
+                                                     long catalogVersion, long scoringVersion) {
+        CategoryVector vector = entries.get(studentUserId);
+        if (vector == null) {
+            return Optional.empty();
+        }
+        if (!vector.isCurrent(profileVersion, catalogVersion, scoringVersion)) {
+            entries.remove(studentUserId);
+            return Optional.empty();
+        }
+        return Optional.of(vector);
+    }
+
+    public synchronized void put(Long studentUserId, CategoryVector vector) {
+        MatchVector totals = vector.totals();
+        if (maxEntries <= 0 || totals.catalogVersion() < catalogVersion || totals.scoringVersion() < scoringVersion) {
+            return;
+        }
+        if (totals.catalogVersion() > catalogVersion || totals.scoringVersion() > scoringVersion) {
+            if (!entries.isEmpty()) {
+                log.debug("Catalog version {} / scoring version {} published, dropping {} cached category vectors",
+                    totals.catalogVersion(), totals.scoringVersion(), entries.size());
+            }
+            entries.clear();
+            catalogVersion = totals.catalogVersion();
+            scoringVersion = totals.scoringVersion();
+        }
+        entries.put(studentUserId, vector);
+    }
+
+    public synchronized void invalidate(Long studentUserId) {
+        entries.remove(studentUserId);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,52 @@
+package com.scholarfinder.scholarship.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * A {@link MatchVector} plus the points and mandatory failure of every category per
+ * ordinal, so a what-if simulation can re-evaluate only the categories a profile
+ * delta touches and take the rest from here.
+ *
+ * @param earned   category points, indexed {@code ordinal * categories + category}
+ * @param failures category mandatory failures, same indexing, null when met
+ */
+public record CategoryVector(MatchVector totals, short[] earned, String[] failures) {
+
+    private static final int CATEGORIES = MatchCategory.all().length;
+
+    static CategoryVector allocate(long catalogVersion, long scoringVersion, LocalDateTime profileVersion, int size) {
+        return new CategoryVector(
+            new MatchVector(catalogVersion, scoringVersion, profileVersion, new int[size], new String[size]),
+            new short[size * CATEGORIES],
+            new String[size * CATEGORIES]);
+    }
+
+    public int size() {
+        return totals.size();
+    }
+
+    public boolean isCurrent(LocalDateTime profileVersion, long catalogVersion, long scoringVersion) {
+        return totals.isCurrent(profileVersion, catalogVersion, scoringVersion);
+    }
+
+    public int earned(int ordinal, MatchCategory category) {
+        return earned[ordinal * CATEGORIES + category.ordinal()];
+    }
+
+    public String failure(int ordinal, MatchCategory category) {
+        return failures[ordinal * CATEGORIES + category.ordinal()];
+    }
+
+    /**
+     * Store a full score at an ordinal; each ordinal is written by one task only.
+     */
+    void record(int ordinal, MatchScore score) {
+        totals.basisPoints()[ordinal] = score.getBasisPoints();
+        totals.ineligibilityReasons()[ordinal] = score.getIneligibilityReason();
+        int base = ordinal * CATEGORIES;
+        for (MatchCategory category : MatchCategory.all()) {
+            earned[base + category.ordinal()] = (short) score.earned(category);
+            failures[base + category.ordinal()] = score.failure(category);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.entity.Scholarship;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Immutable, pre-normalized view of a scholarship's matching requirements.
+ *
+ * Built once when a scholarship enters the {@link CompiledScholarshipIndex} so the
+ * matching loop compares upper-cased strings and fixed-point ints instead of
+ * re-normalizing entity fields for every student.
+ *
+ * Fixed-point scales: GPA and English score in hundredths, Z-score in thousandths.
+ * The English threshold is also pre-converted to its {@link EnglishConcordance} band.
+ * Numeric requirements that are not set hold {@link #NONE}. {@code levelsRestricted} is
+ * whether eligible_levels is set at all: an empty list admits no level, as it always has.
+ *
+ * The entity itself is not retained: the values shown to students are copied into
+ * {@link Details} so a snapshot never shares mutable state with the persistence context.
+ */
+public record CompiledScholarship(
+        Details details,
+        Long id,
+        Set<String> levels,
+        boolean levelsRestricted,
+        Set<String> countries,
+        FieldTaxonomy.FieldSet fields,
+        int minGpa,
+        int minZScore,
+        String englishTest,
+        int minEnglishScore,
+        int minEnglishBand,
+        String alStream,
+        int minAge,
+        int maxAge,
+        boolean requiresFinancialNeed,
+        int maxIncomeLevel,
+        boolean sportsRequired,
+        boolean leadershipRequired,
+        boolean firstGenerationPriority,
+        boolean disabilityFriendly,
+        boolean returnToHomeRequired,
+        String scholarshipType,
+        LocalDate applicationDeadline) {
+
+    /**
+     * Marker for an unset numeric requirement (Z-scores can be negative, so -1 is not usable).
+     */
+    public static final int NONE = Integer.MIN_VALUE;
+
+    public static final int GPA_SCALE = 2;
+    public static final int Z_SCORE_SCALE = 3;
+    public static final int ENGLISH_SCORE_SCALE = 2;
+
+    /**
+     * Scholarship values as stored, for listing DTOs and match explanations.
+     * Array columns are copied into unmodifiable lists; null means the column was null.
+     */
+    public record Details(
+            String title,
+            String description,
+            Long institutionId,
+            String scholarshipType,
+            BigDecimal amount,
+            String currency,
+            Integer coveragePercentage,
+            boolean featured,
+            String status,
+            LocalDateTime updatedAt,
+            List<String> eligibleLevels,
+            List<String> eligibleCountries,
+            List<String> eligibleFields,
+            BigDecimal minGpa,
+            BigDecimal minZScore,
+            String requiredAlStream,
+            String requiredEnglishTest,
+            BigDecimal minEnglishScore,
+            String maxHouseholdIncome) {
+
+        static Details of(Scholarship s) {
+            return new Details(
+                s.getTitle(),
+                s.getDescription(),
+                s.getInstitutionId(),
+                s.getScholarshipType(),
+                s.getAmount(),
+                s.getCurrency(),
+                s.getCoveragePercentage(),
+                Boolean.TRUE.equals(s.getIsFeatured()),
+                s.getStatus(),
+                s.getUpdatedAt(),
+                listOf(s.getEligibleLevels()),
+                listOf(s.getEligibleCountries()),
+                listOf(s.getEligibleFields()),
+                s.getMinGpa(),
+                s.getMinZScore(),
+                s.getRequiredAlStream(),
+                s.getRequiredEnglishTest(),
+                s.getMinEnglishScore(),
+                s.getMaxHouseholdIncome()
+            );
+        }
+
+        private static List<String> listOf(String[] values) {
+            return values != null ? Collections.unmodifiableList(Arrays.asList(values.clone())) : null;
+        }
+    }
+
+    /**
+     * Compile a scholarship entity into its matching representation.
+     */
+    public static CompiledScholarship compile(Scholarship s) {
+        String stream = s.getRequiredAlStream();
+        boolean anyStream = stream == null || "ANY".equalsIgnoreCase(stream);
+        String englishTest = EnglishConcordance.canonical(code(s.getRequiredEnglishTest()));
+        int minEnglishScore = threshold(s.getMinEnglishScore(), ENGLISH_SCORE_SCALE);
+
+        return new CompiledScholarship(
+            Details.of(s),
+            s.getId(),
+            upperSet(s.getEligibleLevels()),
+            s.getEligibleLevels() != null,
+            upperSet(s.getEligibleCountries()),
+            FieldTaxonomy.index(s.getEligibleFields()),
+            threshold(s.getMinGpa(), GPA_SCALE),
+            threshold(s.getMinZScore(), Z_SCORE_SCALE),
+            englishTest,
+            minEnglishScore,
+            EnglishConcordance.band(englishTest, minEnglishScore),
+            anyStream ? null : code(stream),
+            s.getMinAge() != null ? s.getMinAge() : NONE,
+            s.getMaxAge() != null ? s.getMaxAge() : NONE,
+            Boolean.TRUE.equals(s.getRequiresFinancialNeed()),
+            s.getMaxHouseholdIncome() != null ? MatchingService.incomeLevel(s.getMaxHouseholdIncome()) : NONE,
+            Boolean.TRUE.equals(s.getSportsAchievementRequired()),
+            Boolean.TRUE.equals(s.getLeadershipRequired()),
+            Boolean.TRUE.equals(s.getFirstGenerationPriority()),
+            Boolean.TRUE.equals(s.getDisabilityFriendly()),
+            Boolean.TRUE.equals(s.getReturnToHomeRequired()),
+            code(s.getScholarshipType()),
+            s.getApplicationDeadline()
+        );
+    }
+
+    /**
+     * Whether the scholarship is open for matching on the given day.
+     */
+    public boolean isActiveOn(LocalDate today) {
+        return "ACTIVE".equals(details.status())
+            && applicationDeadline != null
+            && !applicationDeadline.isBefore(today);
+    }
+
+    /**
+     * Scale a student-side value down to fixed point. Truncates so that
+     * {@code fixedPoint(v) >= threshold} holds exactly when {@code v >= threshold}.
+     */
+    public static int fixedPoint(BigDecimal value, int scale) {
+        if (value == null) return NONE;
+        return value.movePointRight(scale).setScale(0, RoundingMode.FLOOR).intValue();
+    }
+
+    /**
+     * Upper-cased, interned code. Interning both the compiled scholarships and the
+     * student features lets equality checks hit the identity fast path.
+     */
+    static String code(String value) {
+        return value != null ? value.toUpperCase().intern() : null;
+    }
+
+    private static int threshold(BigDecimal value, int scale) {
+        if (value == null) return NONE;
+        return value.movePointRight(scale).setScale(0, RoundingMode.CEILING).intValue();
+    }
+
+    private static Set<String> upperSet(String[] values) {
+        if (values == null || values.length == 0) return Set.of();
+        Set<String> result = new HashSet<>();
+        for (String value : values) {
+            if (value != null) result.add(code(value));
+        }
+        return Set.copyOf(result);
+    }
+}
@@ -0,0 +1,293 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.entity.Scholarship;
+import com.scholarfinder.scholarship.repository.ScholarshipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * In-memory catalog of active scholarships in compiled form.
+ *
+ * Match requests read an immutable {@link Snapshot} instead of querying the
+ * scholarships table. The index is loaded once at startup and then kept current
+ * by polling for rows whose updated_at moved past the last seen value; a periodic
+ * full rebuild picks up hard deletes that a delta poll cannot see.
+ *
+ * Expiry is driven by a deadline-ordered queue: one task is scheduled for the
+ * midnight after the earliest deadline and evicts every scholarship whose deadline
+ * has passed, then re-arms for the next earliest deadline. Readers never filter
+ * by date.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CompiledScholarshipIndex {
+
+    private final ScholarshipRepository scholarshipRepository;
+    private final TaskScheduler taskScheduler;
+
+    private final Map<Long, CompiledScholarship> entries = new HashMap<>();
+    // Deadline -> IDs of indexed scholarships closing that day
+    private final NavigableMap<LocalDate, Set<Long>> expiryQueue = new TreeMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private LocalDateTime lastSeenUpdate;
+    private ScheduledFuture<?> expiryTask;
+    private LocalDate expiryTaskDeadline;
+
+    /**
+     * Immutable catalog view. Ordinals are positions in {@code scholarships},
+     * which is ordered by application deadline like findActiveScholarships.
+     */
+    public record Snapshot(long version, List<CompiledScholarship> scholarships, Map<Long, Integer> ordinals,
+                           EligibilityPrefilter prefilter) {
+
+        static final Snapshot EMPTY = new Snapshot(0, List.of(), Map.of(), EligibilityPrefilter.build(List.of()));
+
+        public int size() {
+            return scholarships.size();
+        }
+
+        /**
+         * Scholarships at the given ordinals, in catalog order.
+         */
+        public List<CompiledScholarship> select(BitSet ordinals) {
+            List<CompiledScholarship> selected = new ArrayList<>(ordinals.cardinality());
+            for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+                selected.add(scholarships.get(i));
+            }
+            return selected;
+        }
+
+        public Optional<CompiledScholarship> find(Long id) {
+            Integer ordinal = ordinals.get(id);
+            return ordinal != null ? Optional.of(scholarships.get(ordinal)) : Optional.empty();
+        }
+
+        /**
+         * Scholarships closing on or before {@code cutoff}, earliest deadline first:
+         * a prefix of the catalog found by binary search.
+         */
+        public List<CompiledScholarship> closingBy(LocalDate cutoff) {
+            return scholarships.subList(0, ordinalAfter(cutoff, Long.MAX_VALUE));
+        }
+
+        /**
+         * First ordinal ordered after the (deadline, id) key, for keyset paging.
+         */
+        public int ordinalAfter(LocalDate deadline, long id) {
+            int low = 0;
+            int high = scholarships.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                CompiledScholarship s = scholarships.get(mid);
+                int cmp = s.applicationDeadline().compareTo(deadline);
+                if (cmp > 0 || (cmp == 0 && s.id() > id)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Current catalog snapshot. Never null; safe to iterate without locking.
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * Reload every active scholarship from the database.
+     */
+    @Scheduled(initialDelayString = "${matching.index.full-rebuild-interval-ms:600000}",
+               fixedDelayString = "${matching.index.full-rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        LocalDate today = LocalDate.now();
+        List<Scholarship> active = scholarshipRepository.findActiveScholarships(today);
+
+        entries.clear();
+        expiryQueue.clear();
+        LocalDateTime newest = null;
+        for (Scholarship scholarship : active) {
+            put(CompiledScholarship.compile(scholarship));
+            newest = later(newest, scholarship.getUpdatedAt());
+        }
+        lastSeenUpdate = newest != null ? newest : LocalDateTime.now();
+
+        publish();
+        log.info("Compiled scholarship index rebuilt with {} active scholarships", entries.size());
+    }
+
+    /**
+     * Apply scholarships changed since the last poll.
+     */
+    @Scheduled(fixedDelayString = "${matching.index.refresh-interval-ms:30000}")
+    public synchronized void refreshChanged() {
+        if (lastSeenUpdate == null) {
+            return; // Initial load has not happened yet
+        }
+        LocalDate today = LocalDate.now();
+        List<Scholarship> changed = scholarshipRepository.findUpdatedSince(lastSeenUpdate);
+
+        boolean modified = false;
+        for (Scholarship scholarship : changed) {
+            modified |= apply(scholarship, today);
+            lastSeenUpdate = later(lastSeenUpdate, scholarship.getUpdatedAt());
+        }
+        modified |= evictExpired(today);
+
+        if (modified) {
+            publish();
+            log.debug("Compiled scholarship index refreshed: {} changed rows, {} active", changed.size(), entries.size());
+        }
+    }
+
+    /**
+     * Insert, replace or evict a single scholarship after it was written.
+     */
+    public synchronized void upsert(Scholarship scholarship) {
+        if (apply(scholarship, LocalDate.now())) {
+            publish();
+        }
+    }
+
+    /**
+     * Evict a scholarship that was deleted.
+     */
+    public synchronized void remove(Long scholarshipId) {
+        if (evict(scholarshipId)) {
+            publish();
+        }
+    }
+
+    /**
+     * Evict everything whose deadline passed; runs from the expiry task.
+     */
+    synchronized void expireDue() {
+        expiryTask = null;
+        expiryTaskDeadline = null;
+        if (evictExpired(LocalDate.now())) {
+            publish();
+            log.debug("Expired scholarships evicted, {} active", entries.size());
+        } else {
+            scheduleExpiry();
+        }
+    }
+
+    /**
+     * Returns whether the index changed. The delta poll uses {@code updated_at >= last seen}
+     * so rows written in the same instant are not missed; those it has already indexed at the
+     * same updatedAt come back unchanged and are skipped here.
+     */
+    private boolean apply(Scholarship scholarship, LocalDate today) {
+        CompiledScholarship indexed = entries.get(scholarship.getId());
+        if (indexed != null && scholarship.getUpdatedAt() != null
+                && scholarship.getUpdatedAt().equals(indexed.details().updatedAt())) {
+            return false;
+        }
+        CompiledScholarship compiled = CompiledScholarship.compile(scholarship);
+        if (compiled.isActiveOn(today)) {
+            put(compiled);
+            return true;
+        }
+        return evict(compiled.id());
+    }
+
+    private void put(CompiledScholarship compiled) {
+        CompiledScholarship previous = entries.put(compiled.id(), compiled);
+        if (previous != null) {
+            dequeue(previous);
+        }
+        expiryQueue.computeIfAbsent(compiled.applicationDeadline(), d -> new HashSet<>()).add(compiled.id());
+    }
+
+    private boolean evict(Long scholarshipId) {
+        CompiledScholarship previous = entries.remove(scholarshipId);
+        if (previous == null) {
+            return false;
+        }
+        dequeue(previous);
+        return true;
+    }
+
+    private void dequeue(CompiledScholarship compiled) {
+        Set<Long> ids = expiryQueue.get(compiled.applicationDeadline());
+        if (ids != null && ids.remove(compiled.id()) && ids.isEmpty()) {
+            expiryQueue.remove(compiled.applicationDeadline());
+        }
+    }
+
+    // Deadlines before today, oldest first
+    private boolean evictExpired(LocalDate today) {
+        boolean modified = false;
+        for (Map.Entry<LocalDate, Set<Long>> due = expiryQueue.firstEntry();
+             due != null && due.getKey().isBefore(today);
+             due = expiryQueue.firstEntry()) {
+            expiryQueue.pollFirstEntry();
+            for (Long id : due.getValue()) {
+                entries.remove(id);
+            }
+            modified = true;
+        }
+        return modified;
+    }
+
+    /**
+     * Arm the expiry task for the midnight after the earliest indexed deadline.
+     */
+    private void scheduleExpiry() {
+        LocalDate earliest = expiryQueue.isEmpty() ? null : expiryQueue.firstKey();
+        if (Objects.equals(earliest, expiryTaskDeadline) && expiryTask != null) {
+            return;
+        }
+        if (expiryTask != null) {
+            expiryTask.cancel(false);
+            expiryTask = null;
+        }
+        expiryTaskDeadline = earliest;
+        if (earliest != null) {
+            Instant expiresAt = earliest.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+            expiryTask = taskScheduler.schedule(this::expireDue, expiresAt);
+        }
+    }
+
+    private void publish() {
+        List<CompiledScholarship> ordered = new ArrayList<>(entries.values());
+        ordered.sort(Comparator.comparing(CompiledScholarship::applicationDeadline)
+            .thenComparing(CompiledScholarship::id));
+
+        Map<Long, Integer> ordinals = new HashMap<>(ordered.size() * 2);
+        for (int i = 0; i < ordered.size(); i++) {
+            ordinals.put(ordered.get(i).id(), i);
+        }
+        List<CompiledScholarship> scholarships = List.copyOf(ordered);
+        snapshot = new Snapshot(snapshot.version() + 1, scholarships, Map.copyOf(ordinals),
+            EligibilityPrefilter.build(scholarships));
+        scheduleExpiry();
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return b.isAfter(a) ? b : a;
+    }
+}
@@ -0,0 +1,163 @@
+package com.scholarfinder.scholarship.service;
+
+import java.util.*;
+
+/**
+ * Bitset pre-filter over the ordinals of a catalog snapshot.
+ *
+ * One bitset is kept per eligible level, country and scholarship type, one per
+ * age year, and one each for the English-test and return-home requirements.
+ * ANDing the sets that apply to a student yields exactly the scholarships with
+ * no mandatory failure in {@link MatchingService}, so eligible-only requests
+ * only score the survivors.
+ *
+ * Every "by value" set already includes the scholarships that do not restrict
+ * that attribute, so a lookup is a single AND.
+ */
+public final class EligibilityPrefilter {
+
+    static final int MAX_AGE = 100;
+
+    private final int size;
+    private final BitSet levelUnrestricted;
+    private final Map<String, BitSet> byLevel;
+    private final BitSet countryUnrestricted;
+    private final Map<String, BitSet> byCountry;
+    private final Map<String, BitSet> byType;
+    private final BitSet[] byAge;
+    private final BitSet englishOptional;
+    private final BitSet returnOptional;
+
+    private EligibilityPrefilter(int size) {
+        this.size = size;
+        this.levelUnrestricted = new BitSet(size);
+        this.byLevel = new HashMap<>();
+        this.countryUnrestricted = new BitSet(size);
+        this.byCountry = new HashMap<>();
+        this.byType = new HashMap<>();
+        this.byAge = new BitSet[MAX_AGE + 1];
+        this.englishOptional = new BitSet(size);
+        this.returnOptional = new BitSet(size);
+    }
+
+    /**
+     * Build the bitsets for scholarships indexed by their position in the list.
+     */
+    public static EligibilityPrefilter build(List<CompiledScholarship> scholarships) {
+        int size = scholarships.size();
+        EligibilityPrefilter filter = new EligibilityPrefilter(size);
+
+        for (int i = 0; i < size; i++) {
+            CompiledScholarship s = scholarships.get(i);
+
+            if (!s.levelsRestricted()) {
+                filter.levelUnrestricted.set(i);
+            }
+            for (String level : s.levels()) {
+                filter.byLevel.computeIfAbsent(level, k -> new BitSet(size)).set(i);
+            }
+
+            if (s.countries().isEmpty()) {
+                filter.countryUnrestricted.set(i);
+            }
+            for (String country : s.countries()) {
+                filter.byCountry.computeIfAbsent(country, k -> new BitSet(size)).set(i);
+            }
+
+            if (s.scholarshipType() != null) {
+                filter.byType.computeIfAbsent(s.scholarshipType(), k -> new BitSet(size)).set(i);
+            }
+
+            int from = s.minAge() != CompiledScholarship.NONE ? Math.max(s.minAge(), 0) : 0;
+            int to = s.maxAge() != CompiledScholarship.NONE ? Math.min(s.maxAge(), MAX_AGE) : MAX_AGE;
+            for (int age = from; age <= to; age++) {
+                if (filter.byAge[age] == null) {
+                    filter.byAge[age] = new BitSet(size);
+                }
+                filter.byAge[age].set(i);
+            }
+
+            if (s.englishTest() == null || s.minEnglishScore() == CompiledScholarship.NONE) {
+                filter.englishOptional.set(i);
+            }
+            if (!s.returnToHomeRequired()) {
+                filter.returnOptional.set(i);
+            }
+        }
+
+        // Fold unrestricted scholarships into every value set so lookups need one AND
+        filter.byLevel.values().forEach(set -> set.or(filter.levelUnrestricted));
+        filter.byCountry.values().forEach(set -> set.or(filter.countryUnrestricted));
+        for (int age = 0; age <= MAX_AGE; age++) {
+            if (filter.byAge[age] == null) {
+                filter.byAge[age] = new BitSet(size);
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * All ordinals of the snapshot.
+     */
+    public BitSet all() {
+        BitSet all = new BitSet(size);
+        all.set(0, size);
+        return all;
+    }
+
+    /**
+     * Ordinals passing the optional request filters (level, country, scholarship type).
+     * Per column as in ScholarshipRepositoryCustom#findByIdsAndFilters: an empty level
+     * list admits no level, an empty country list admits every country.
+     */
+    public BitSet select(String level, String country, String scholarshipType) {
+        BitSet result = all();
+        if (level != null && !level.isEmpty()) {
+            result.and(byLevel.getOrDefault(level.toUpperCase(), levelUnrestricted));
+        }
+        if (country != null && !country.isEmpty()) {
+            result.and(byCountry.getOrDefault(country.toUpperCase(), countryUnrestricted));
+        }
+        if (scholarshipType != null && !scholarshipType.isEmpty()) {
+            BitSet type = byType.get(scholarshipType.toUpperCase());
+            if (type == null) {
+                result.clear();
+            } else {
+                result.and(type);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Restrict candidates to scholarships where the student fails no mandatory criterion.
+     */
+    public void retainEligible(BitSet candidates, StudentFeatureVector student) {
+        if (student.level() != null) {
+            candidates.and(byLevel.getOrDefault(student.level(), levelUnrestricted));
+        }
+
+        if (student.nationality() != null) {
+            BitSet countries = byCountry.getOrDefault(student.nationalityCode(), countryUnrestricted);
+            BitSet sriLanka = byCountry.get("SRI LANKA");
+            if (sriLanka != null && student.sriLankan()) {
+                countries = (BitSet) countries.clone();
+                countries.or(sriLanka);
+            }
+            candidates.and(countries);
+        }
+
+        int age = student.age();
+        if (age >= 0 && age <= MAX_AGE) {
+            candidates.and(byAge[age]);
+        }
+
+        if (!student.hasEnglishResult()) {
+            candidates.and(englishOptional);
+        }
+
+        if (!student.willingToReturn()) {
+            candidates.and(returnOptional);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.scholarfinder.scholarship.service;
+
+import java.util.Map;
+
+/**
+ * Concordance of English test scores on a common proficiency band.
+ *
+ * The band is the IELTS half-band times two (IELTS 6.5 = band 13). TOEFL iBT, PTE
+ * Academic and Duolingo use the publishers' IELTS concordance tables; TOEFL ITP goes
+ * through the ETS CEFR cut scores. Each test's table is expanded at class load into
+ * an array indexed by score step, so a lookup is one index computation and a load.
+ *
+ * Scores are fixed point in hundredths ({@link CompiledScholarship#ENGLISH_SCORE_SCALE}).
+ */
+public final class EnglishConcordance {
+
+    public static final String IELTS = "IELTS";
+    public static final String TOEFL_IBT = "TOEFL IBT";
+    public static final String TOEFL_ITP = "TOEFL ITP";
+    public static final String PTE = "PTE";
+    public static final String DUOLINGO = "DUOLINGO";
+
+    // Test names as entered on profiles and scholarships -> canonical test
+    private static final Map<String, String> ALIASES = Map.of(
+        "TOEFL", TOEFL_IBT,
+        "TOEFL IBT", TOEFL_IBT,
+        "TOEFL ITP", TOEFL_ITP,
+        "PTE ACADEMIC", PTE,
+        "DET", DUOLINGO,
+        "DUOLINGO ENGLISH TEST", DUOLINGO
+    );
+
+    /**
+     * Score-step indexed band table of one test.
+     */
+    private record Scale(int min, int step, byte[] bands) {
+
+        int band(int score) {
+            int index = (score - min) / step;
+            if (index < 0) return bands[0];
+            if (index >= bands.length) return bands[bands.length - 1];
+            return bands[index];
+        }
+    }
+
+    private static final Map<String, Scale> SCALES = Map.of(
+        // IELTS 0-9 in half bands: band = score * 2
+        IELTS, scale(0, 9, 0.5, new double[][] {
+            {0, 0}, {0.5, 1}, {1, 2}, {1.5, 3}, {2, 4}, {2.5, 5}, {3, 6}, {3.5, 7}, {4, 8}, {4.5, 9},
+            {5, 10}, {5.5, 11}, {6, 12}, {6.5, 13}, {7, 14}, {7.5, 15}, {8, 16}, {8.5, 17}, {9, 18}}),
+        // ETS TOEFL iBT / IELTS comparison
+        TOEFL_IBT, scale(0, 120, 1, new double[][] {
+            {0, 0}, {32, 9}, {35, 10}, {46, 11}, {60, 12}, {79, 13}, {94, 14}, {102, 15},
+            {110, 16}, {115, 17}, {118, 18}}),
+        // ETS TOEFL ITP CEFR cut scores (B1 460, B2 543, C1 627), interpolated to half bands
+        TOEFL_ITP, scale(310, 677, 1, new double[][] {
+            {310, 0}, {337, 6}, {400, 7}, {460, 8}, {500, 10}, {543, 11}, {567, 12}, {590, 13},
+            {627, 14}, {660, 15}}),
+        // Pearson PTE Academic / IELTS concordance
+        PTE, scale(10, 90, 1, new double[][] {
+            {10, 0}, {23, 9}, {29, 10}, {36, 11}, {46, 12}, {56, 13}, {66, 14}, {76, 15},
+            {84, 16}, {89, 17}}),
+        // Duolingo English Test / IELTS concordance (scores in steps of 5)
+        DUOLINGO, scale(10, 160, 5, new double[][] {
+            {10, 0}, {65, 9}, {80, 10}, {95, 11}, {105, 12}, {120, 13}, {130, 14}, {140, 15},
+            {150, 16}, {155, 17}})
+    );
+
+    private EnglishConcordance() {
+    }
+
+    /**
+     * Canonical name of an upper-cased test code; unknown tests are returned unchanged.
+     */
+    public static String canonical(String test) {
+        return test != null ? ALIASES.getOrDefault(test, test) : null;
+    }
+
+    /**
+     * Common band of a score on a canonical test, or {@link CompiledScholarship#NONE}
+     * when the test or score is unknown.
+     */
+    public static int band(String test, int score) {
+        if (test == null || score == CompiledScholarship.NONE) {
+            return CompiledScholarship.NONE;
+        }
+        Scale scale = SCALES.get(test);
+        return scale != null ? scale.band(score) : CompiledScholarship.NONE;
+    }
+
+    /**
+     * Expand (minimum score, band) cut points into a band per score step.
+     */
+    private static Scale scale(double min, double max, double step, double[][] cuts) {
+        int minHundredths = (int) Math.round(min * 100);
+        int stepHundredths = (int) Math.round(step * 100);
+        int steps = (int) Math.round((max - min) / step) + 1;
+
+        byte[] bands = new byte[steps];
+        int cut = 0;
+        for (int i = 0; i < steps; i++) {
+            double score = min + i * step;
+            while (cut + 1 < cuts.length && cuts[cut + 1][0] <= score) {
+                cut++;
+            }
+            bands[i] = (byte) cuts[cut][1];
+        }
+        return new Scale(minHundredths, stepHundredths, bands);
+    }
+}
@@ -0,0 +1,162 @@
+package com.scholarfinder.scholarship.service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Field-of-study vocabulary with interned integer IDs.
+ *
+ * A field is normalized (upper case, punctuation to spaces, "&" to AND) and split
+ * into tokens; every contiguous token run is a phrase, mapped through the synonym
+ * table and interned to an ID. Two fields match when one field's full phrase is a
+ * phrase of the other, so "Engineering" matches "Civil Engineering" and "CS"
+ * matches "Computer Science", and the per-pair check is a sorted int intersection.
+ *
+ * Scholarship fields are interned at index time. Student fields only look IDs up,
+ * so arbitrary profile input never grows the vocabulary.
+ */
+public final class FieldTaxonomy {
+
+    // Alias phrase -> canonical phrase (both normalized)
+    private static final Map<String, String> SYNONYMS = Map.ofEntries(
+        Map.entry("CS", "COMPUTER SCIENCE"),
+        Map.entry("COMP SCI", "COMPUTER SCIENCE"),
+        Map.entry("COMPUTING", "COMPUTER SCIENCE"),
+        Map.entry("IT", "INFORMATION TECHNOLOGY"),
+        Map.entry("ICT", "INFORMATION TECHNOLOGY"),
+        Map.entry("AI", "ARTIFICIAL INTELLIGENCE"),
+        Map.entry("MBA", "BUSINESS ADMINISTRATION"),
+        Map.entry("BBA", "BUSINESS ADMINISTRATION"),
+        Map.entry("MBBS", "MEDICINE"),
+        Map.entry("MEDICAL", "MEDICINE"),
+        Map.entry("MATHS", "MATHEMATICS"),
+        Map.entry("MATH", "MATHEMATICS"),
+        Map.entry("ECON", "ECONOMICS"),
+        Map.entry("IR", "INTERNATIONAL RELATIONS"),
+        Map.entry("MPH", "PUBLIC HEALTH")
+    );
+
+    // Single tokens too generic to count as a field on their own
+    private static final Set<String> STOP_WORDS = Set.of("AND", "OF", "IN", "THE", "FOR", "WITH");
+
+    private static final int[] NO_IDS = new int[0];
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    /**
+     * Resolved fields of one side of a match.
+     *
+     * @param count        number of non-null fields given (zero means unrestricted / unspecified)
+     * @param phraseIds    sorted IDs of the full field phrases
+     * @param subPhraseIds sorted IDs of every phrase contained in a field, full phrases included
+     */
+    public record FieldSet(int count, int[] phraseIds, int[] subPhraseIds) {
+
+        static final FieldSet EMPTY = new FieldSet(0, NO_IDS, NO_IDS);
+
+        public boolean isEmpty() {
+            return count == 0;
+        }
+
+        /**
+         * Whether any field of one set is contained in a field of the other.
+         */
+        public boolean matches(FieldSet other) {
+            return intersects(phraseIds, other.subPhraseIds) || intersects(other.phraseIds, subPhraseIds);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof FieldSet other && count == other.count
+                && Arrays.equals(phraseIds, other.phraseIds) && Arrays.equals(subPhraseIds, other.subPhraseIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * count + Arrays.hashCode(phraseIds)) + Arrays.hashCode(subPhraseIds);
+        }
+    }
+
+    private FieldTaxonomy() {
+    }
+
+    /**
+     * Resolve scholarship fields, interning new phrases.
+     */
+    public static FieldSet index(String[] fields) {
+        return resolve(fields, true);
+    }
+
+    /**
+     * Resolve student fields against the known vocabulary; unknown phrases cannot match and are dropped.
+     */
+    public static FieldSet lookup(String[] fields) {
+        return resolve(fields, false);
+    }
+
+    private static FieldSet resolve(String[] fields, boolean intern) {
+        if (fields == null || fields.length == 0) {
+            return FieldSet.EMPTY;
+        }
+        int count = 0;
+        Set<Integer> phrases = new TreeSet<>();
+        Set<Integer> subPhrases = new TreeSet<>();
+
+        for (String field : fields) {
+            if (field == null) continue;
+            count++;
+
+            String[] tokens = tokenize(field);
+            if (tokens.length == 0) continue;
+
+            addId(phrases, join(tokens, 0, tokens.length), intern);
+            for (int from = 0; from < tokens.length; from++) {
+                for (int to = from + 1; to <= tokens.length; to++) {
+                    if (to - from == 1 && STOP_WORDS.contains(tokens[from])) continue;
+                    addId(subPhrases, join(tokens, from, to), intern);
+                }
+            }
+        }
+        return count == 0 ? FieldSet.EMPTY : new FieldSet(count, toArray(phrases), toArray(subPhrases));
+    }
+
+    private static String[] tokenize(String field) {
+        String normalized = field.toUpperCase().replace("&", " AND ").replaceAll("[^A-Z0-9]+", " ").trim();
+        return normalized.isEmpty() ? new String[0] : normalized.split(" ");
+    }
+
+    private static String join(String[] tokens, int from, int to) {
+        return to - from == 1 ? tokens[from] : String.join(" ", Arrays.asList(tokens).subList(from, to));
+    }
+
+    private static void addId(Set<Integer> ids, String phrase, boolean intern) {
+        String canonical = SYNONYMS.getOrDefault(phrase, phrase);
+        Integer id = intern ? IDS.computeIfAbsent(canonical, p -> NEXT_ID.getAndIncrement()) : IDS.get(canonical);
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+
+    private static int[] toArray(Set<Integer> ids) {
+        int[] result = new int[ids.size()];
+        int i = 0;
+        for (Integer id : ids) {
+            result[i++] = id;
+        }
+        return result;
+    }
+
+    // Linear merge over two sorted arrays
+    private static boolean intersects(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) return true;
+            if (a[i] < b[j]) i++;
+            else j++;
+        }
+        return false;
+    }
+}
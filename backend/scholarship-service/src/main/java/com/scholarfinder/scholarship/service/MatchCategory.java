@@ -0,0 +1,53 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+
+/**
+ * Scoring categories evaluated by {@link MatchingService}, in evaluation order.
+ * The ordinal indexes per-category arrays such as {@link MatchScore#earned(MatchCategory)}.
+ */
+public enum MatchCategory {
+    EDUCATION_LEVEL("Education Level"),
+    ACADEMIC_PERFORMANCE("Academic Performance"),
+    ENGLISH_PROFICIENCY("English Proficiency"),
+    AGE("Age"),
+    NATIONALITY("Nationality"),
+    FINANCIAL_NEED("Financial Need"),
+    FIELD_OF_STUDY("Field of Study"),
+    SPECIAL_CATEGORIES("Special Categories");
+
+    private static final MatchCategory[] VALUES = values();
+
+    private final String label;
+
+    MatchCategory(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Configured maximum points for this category.
+     */
+    public int weight(MatchingConfig.Weights weights) {
+        return switch (this) {
+            case EDUCATION_LEVEL -> weights.getEducationLevel();
+            case ACADEMIC_PERFORMANCE -> weights.getAcademicPerformance();
+            case ENGLISH_PROFICIENCY -> weights.getEnglishProficiency();
+            case AGE -> weights.getAge();
+            case NATIONALITY -> weights.getNationality();
+            case FINANCIAL_NEED -> weights.getFinancialNeed();
+            case FIELD_OF_STUDY -> weights.getFieldOfStudy();
+            case SPECIAL_CATEGORIES -> weights.getSpecialCategories();
+        };
+    }
+
+    /**
+     * Cached values() to avoid cloning the array in hot loops.
+     */
+    public static MatchCategory[] all() {
+        return VALUES;
+    }
+}
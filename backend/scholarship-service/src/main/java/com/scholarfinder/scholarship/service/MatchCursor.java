@@ -0,0 +1,54 @@
+package com.scholarfinder.scholarship.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Keyset position in MATCH_DESC order, (score DESC, scholarship ID DESC), shared by
+ * the live and the materialized match paths so a nextCursor from either one can be
+ * followed on the other.
+ *
+ * The text form is {@code "<score>:<scholarshipId>"} with the score as the two-decimal
+ * match percentage, e.g. {@code "87.50:42"}.
+ */
+public record MatchCursor(int basisPoints, long scholarshipId) {
+
+    /**
+     * Parse a cursor from a previous response; null or blank means the first page.
+     */
+    public static MatchCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = cursor.split(":");
+        if (parts.length != 2) {
+            throw new RuntimeException("Invalid cursor: " + cursor);
+        }
+        try {
+            int basisPoints = new BigDecimal(parts[0]).movePointRight(2).intValueExact();
+            return new MatchCursor(basisPoints, Long.parseLong(parts[1]));
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static MatchCursor after(MatchScore score) {
+        return new MatchCursor(score.getBasisPoints(), score.getScholarship().id());
+    }
+
+    public BigDecimal score() {
+        return BigDecimal.valueOf(basisPoints, 2);
+    }
+
+    /**
+     * Whether a score comes after this position in MATCH_DESC order.
+     */
+    public boolean admits(int basisPoints, long scholarshipId) {
+        return basisPoints < this.basisPoints
+            || (basisPoints == this.basisPoints && scholarshipId < this.scholarshipId);
+    }
+
+    @Override
+    public String toString() {
+        return score().toPlainString() + ":" + scholarshipId;
+    }
+}
@@ -0,0 +1,144 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters of the match engine, exported through the actuator
+ * (/actuator/prometheus).
+ *
+ * Evaluator timings are sampled: timing all eight categories of every scored
+ * scholarship would cost more than the evaluators themselves, so one evaluation in
+ * {@code matching.metrics.category-sample-rate} is timed. Everything else is
+ * recorded once per request.
+ */
+@Component
+public class MatchMetrics {
+
+    /**
+     * Phases of a match request, each recorded once per request: FETCH loads the profile
+     * and requested scholarships, SCORE is CPU scoring and selection (or reading the page
+     * of materialized scores), EXPLAIN builds the criteria text of the returned matches.
+     */
+    public enum Phase {
+        FETCH, SCORE, EXPLAIN;
+
+        final String tag = name().toLowerCase();
+    }
+
+    private final int categorySampleRate;
+    private final Timer[] categoryTimers;
+    private final Timer[] phaseTimers;
+    private final DistributionSummary candidates;
+    private final DistributionSummary survivors;
+    private final DistributionSummary matchPercentage;
+    private final Counter vectorCacheHits;
+    private final Counter vectorCacheMisses;
+    private final Counter categoryCacheHits;
+    private final Counter categoryCacheMisses;
+
+    public MatchMetrics(MeterRegistry meterRegistry, MatchingConfig matchingConfig) {
+        this.categorySampleRate = Math.max(matchingConfig.getMetrics().getCategorySampleRate(), 0);
+
+        MatchCategory[] categories = MatchCategory.values();
+        this.categoryTimers = new Timer[categories.length];
+        for (MatchCategory category : categories) {
+            categoryTimers[category.ordinal()] = Timer.builder("scholarship.match.category")
+                .description("Time of one category evaluator on one scholarship (sampled)")
+                .tag("category", category.name().toLowerCase())
+                .register(meterRegistry);
+        }
+
+        Phase[] phases = Phase.values();
+        this.phaseTimers = new Timer[phases.length];
+        for (Phase phase : phases) {
+            phaseTimers[phase.ordinal()] = Timer.builder("scholarship.match.phase")
+                .description("Time spent per phase of a match request")
+                .tag("phase", phase.tag)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        }
+
+        this.candidates = DistributionSummary.builder("scholarship.match.candidates")
+            .description("Scholarships scored per match request after the request pre-filter")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.survivors = DistributionSummary.builder("scholarship.match.survivors")
+            .description("Scored scholarships passing the minimum match and eligibility filters")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.matchPercentage = DistributionSummary.builder("scholarship.match.percentage")
+            .description("Match percentage of the matches returned to students")
+            .baseUnit("percent")
+            .serviceLevelObjectives(10, 20, 30, 40, 50, 60, 70, 80, 90, 100)
+            .register(meterRegistry);
+
+        this.vectorCacheHits = cacheCounter(meterRegistry, "vector", "hit");
+        this.vectorCacheMisses = cacheCounter(meterRegistry, "vector", "miss");
+        this.categoryCacheHits = cacheCounter(meterRegistry, "category", "hit");
+        this.categoryCacheMisses = cacheCounter(meterRegistry, "category", "miss");
+    }
+
+    /**
+     * Whether the current evaluation should time its categories.
+     */
+    boolean sampleCategories() {
+        return categorySampleRate > 0 && ThreadLocalRandom.current().nextInt(categorySampleRate) == 0;
+    }
+
+    void recordCategory(MatchCategory category, long nanos) {
+        categoryTimers[category.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Start of a phase, to pass to {@link #recordPhase}.
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Record a phase that began at {@code startNanos}, returning the current time
+     * so consecutive phases can be chained.
+     */
+    public long recordPhase(Phase phase, long startNanos) {
+        long now = System.nanoTime();
+        phaseTimers[phase.ordinal()].record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    public void recordCandidates(int candidateCount, int survivorCount) {
+        candidates.record(candidateCount);
+        survivors.record(survivorCount);
+    }
+
+    public void recordReturned(List<MatchScore> scores) {
+        for (MatchScore score : scores) {
+            matchPercentage.record(score.getPercentage());
+        }
+    }
+
+    void recordVectorCache(boolean hit) {
+        (hit ? vectorCacheHits : vectorCacheMisses).increment();
+    }
+
+    void recordCategoryCache(boolean hit) {
+        (hit ? categoryCacheHits : categoryCacheMisses).increment();
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String cache, String result) {
+        return Counter.builder("scholarship.match.cache.requests")
+            .description("Match cache lookups; hit ratio = hit / (hit + miss)")
+            .tag("cache", cache)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,147 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.dto.MatchResult.MatchQuality;
+
+import java.math.BigDecimal;
+
+/**
+ * Score-only outcome of matching a student against one scholarship.
+ *
+ * Holds the points earned per {@link MatchCategory}, the match percentage in
+ * basis points, the quality band and the first mandatory failure, but no
+ * explanation text. {@link MatchingService#explain} turns the scores that
+ * survive filtering into full {@link com.scholarfinder.scholarship.dto.MatchResult}s.
+ */
+public final class MatchScore {
+
+    private final CompiledScholarship scholarship;
+    private final int[] earned = new int[MatchCategory.all().length];
+    private String[] failures; // per category, allocated on the first mandatory failure
+    private MatchCategory evaluating;
+    private int basisPoints;
+    private MatchQuality quality;
+    private String ineligibilityReason;
+
+    MatchScore(CompiledScholarship scholarship) {
+        this.scholarship = scholarship;
+    }
+
+    /**
+     * Rebuild a score from a cached {@link MatchVector} entry. Per-category points
+     * are not kept in the vector, so {@link #earned} reads zero on these scores.
+     */
+    static MatchScore summary(CompiledScholarship scholarship, int basisPoints, MatchQuality quality,
+                              String ineligibilityReason) {
+        MatchScore score = new MatchScore(scholarship);
+        score.complete(basisPoints, quality);
+        score.ineligibilityReason = ineligibilityReason;
+        return score;
+    }
+
+    public CompiledScholarship getScholarship() {
+        return scholarship;
+    }
+
+    public int earned(MatchCategory category) {
+        return earned[category.ordinal()];
+    }
+
+    /**
+     * Mandatory failure recorded by a category, or null.
+     */
+    public String failure(MatchCategory category) {
+        return failures != null ? failures[category.ordinal()] : null;
+    }
+
+    /**
+     * Match percentage in basis points (0-10000).
+     */
+    public int getBasisPoints() {
+        return basisPoints;
+    }
+
+    /**
+     * Whole-number match percentage, as {@code matchPercentage.intValue()} on the DTO.
+     */
+    public int getPercentage() {
+        return basisPoints / 100;
+    }
+
+    public BigDecimal getMatchPercentage() {
+        return MatchingService.toPercentage(basisPoints);
+    }
+
+    public MatchQuality getQuality() {
+        return quality;
+    }
+
+    public boolean isEligible() {
+        return ineligibilityReason == null;
+    }
+
+    public String getIneligibilityReason() {
+        return ineligibilityReason;
+    }
+
+    /**
+     * Mark the category being evaluated, so mandatory failures are attributed to it.
+     */
+    void begin(MatchCategory category) {
+        evaluating = category;
+    }
+
+    void setEarned(MatchCategory category, int points) {
+        earned[category.ordinal()] = points;
+    }
+
+    /**
+     * Copy a category's outcome from a cached baseline instead of evaluating it.
+     */
+    void restore(MatchCategory category, int points, String failure) {
+        earned[category.ordinal()] = points;
+        if (failure != null) {
+            failureSlots()[category.ordinal()] = failure;
+        }
+    }
+
+    int totalEarned() {
+        int total = 0;
+        for (int points : earned) {
+            total += points;
+        }
+        return total;
+    }
+
+    /**
+     * Set the total; the ineligibility reason is the first failure in category order.
+     */
+    void complete(int basisPoints, MatchQuality quality) {
+        this.basisPoints = basisPoints;
+        this.quality = quality;
+        if (failures != null) {
+            for (String failure : failures) {
+                if (failure != null) {
+                    ineligibilityReason = failure;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Record a mandatory failure of the category being evaluated; only its first one is kept.
+     */
+    void failMandatory(String criterion) {
+        String[] slots = failureSlots();
+        if (slots[evaluating.ordinal()] == null) {
+            slots[evaluating.ordinal()] = criterion;
+        }
+    }
+
+    private String[] failureSlots() {
+        if (failures == null) {
+            failures = new String[earned.length];
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,87 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded LRU cache of per-student {@link MatchVector}s.
+ *
+ * An entry is only served while the student's profile {@code updatedAt}, the
+ * catalog snapshot version and the scoring profile version all match, so a profile
+ * edit, any scholarship add/edit/expiry or a weights reload invalidates it. The
+ * first vector stored for a newer catalog or scoring version drops every entry
+ * built against older ones. Vectors are stored by unfiltered requests; filtered
+ * requests reuse one when present but score only their candidates on a miss.
+ */
+@Component
+@Slf4j
+public class MatchScoreCache {
+
+    private final int maxEntries;
+    private final Map<Long, MatchVector> entries;
+    private long catalogVersion;
+    private long scoringVersion;
+
+    public MatchScoreCache(MatchingConfig matchingConfig) {
+        this.maxEntries = matchingConfig.getCache().getMaxEntries();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, MatchVector> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Cached vector for a student, if it was built against the same profile, catalog and scoring versions.
+     */
+    public synchronized Optional<MatchVector> get(Long studentUserId, LocalDateTime profileVersion,
+                                                  long catalogVersion, long scoringVersion) {
+        MatchVector vector = entries.get(studentUserId);
+        if (vector == null) {
+            return Optional.empty();
+        }
+        if (!vector.isCurrent(profileVersion, catalogVersion, scoringVersion)) {
+            entries.remove(studentUserId);
+            return Optional.empty();
+        }
+        return Optional.of(vector);
+    }
+
+    public synchronized void put(Long studentUserId, MatchVector vector) {
+        if (maxEntries <= 0 || vector.catalogVersion() < catalogVersion || vector.scoringVersion() < scoringVersion) {
+            return;
+        }
+        if (vector.catalogVersion() > catalogVersion || vector.scoringVersion() > scoringVersion) {
+            if (!entries.isEmpty()) {
+                log.debug("Catalog version {} / scoring version {} published, dropping {} cached match vectors",
+                    vector.catalogVersion(), vector.scoringVersion(), entries.size());
+            }
+            entries.clear();
+            catalogVersion = vector.catalogVersion();
+            scoringVersion = vector.scoringVersion();
+        }
+        entries.put(studentUserId, vector);
+    }
+
+    /**
+     * Drop the cached vector for one student, e.g. after their profile changed.
+     */
+    public synchronized void invalidate(Long studentUserId) {
+        entries.remove(studentUserId);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,197 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import com.scholarfinder.scholarship.entity.StudentProfile;
+import com.scholarfinder.scholarship.repository.MatchScoreRepository;
+import com.scholarfinder.scholarship.repository.MatchScoreRepository.MatchScoreRow;
+import com.scholarfinder.scholarship.repository.StudentProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps scholarships.match_scores in step with profiles and the active catalog.
+ *
+ * The first sync backfills every student against the catalog. After that each sync
+ * diffs the current index snapshot against the last materialized one and re-scores
+ * only the changed scholarship columns (dropping expired ones), then re-scores only
+ * the rows of students whose profile changed since the last sync, refreshing their
+ * cached profiles on the way. Publishing new weights ({@link ScoringProfiles}) makes
+ * every row stale: reads fall back to live scoring until the next sync has re-run
+ * the backfill with the new version. Likewise, rows are only served once the sync has
+ * applied the catalog snapshot the request is matched against.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchScoreMaterializer {
+
+    private final MatchingConfig matchingConfig;
+    private final CompiledScholarshipIndex scholarshipIndex;
+    private final StudentProfileRepository studentProfileRepository;
+    private final MatchScoreRepository matchScoreRepository;
+    private final MatchingService matchingService;
+    private final StudentProfileCache studentProfileCache;
+
+    private final Set<Long> pendingStudents = ConcurrentHashMap.newKeySet();
+    private volatile CompiledScholarshipIndex.Snapshot materialized;
+    private ScoringProfile scoringProfile;
+    private volatile long scoringVersion;
+    private volatile LocalDateTime profileWatermark;
+
+    /**
+     * Whether the backfill finished and the rows reflect the current weights and the
+     * given catalog snapshot version, so they can be served.
+     */
+    public boolean isReady(long catalogVersion) {
+        CompiledScholarshipIndex.Snapshot snapshot = materialized;
+        return profileWatermark != null && snapshot != null && snapshot.version() == catalogVersion
+            && scoringVersion == matchingService.scoringProfile().version();
+    }
+
+    /**
+     * Whether the student's rows reflect their current profile.
+     */
+    public boolean isCurrent(StudentProfile profile) {
+        LocalDateTime watermark = profileWatermark;
+        return watermark != null && (profile.getUpdatedAt() == null || !profile.getUpdatedAt().isAfter(watermark));
+    }
+
+    /**
+     * Queue a student for re-scoring on the next sync.
+     */
+    public void requestStudent(Long studentUserId) {
+        pendingStudents.add(studentUserId);
+    }
+
+    @Scheduled(fixedDelayString = "${matching.materialized.refresh-interval-ms:30000}")
+    public synchronized void sync() {
+        if (!matchingConfig.getMaterialized().isEnabled()) {
+            return;
+        }
+        CompiledScholarshipIndex.Snapshot current = scholarshipIndex.snapshot();
+        if (current.version() == 0) {
+            return; // Index not loaded yet
+        }
+
+        ScoringProfile profile = matchingService.scoringProfile();
+        if (materialized == null || profile.version() != scoringVersion) {
+            LocalDateTime started = LocalDateTime.now();
+            if (materialized != null) {
+                deleteRemovedScholarships(materialized, current);
+            }
+            scoringProfile = profile;
+            int students = rescoreScholarships(current.scholarships());
+            materialized = current;
+            profileWatermark = started;
+            scoringVersion = profile.version();
+            log.info("Materialized match scores for {} students against {} scholarships (scoring version {})",
+                students, current.size(), profile.version());
+            return;
+        }
+
+        if (current.version() != materialized.version()) {
+            applyCatalogChanges(materialized, current);
+            materialized = current;
+        }
+        rescoreChangedStudents();
+        rescorePendingStudents();
+    }
+
+    private void applyCatalogChanges(CompiledScholarshipIndex.Snapshot previous, CompiledScholarshipIndex.Snapshot current) {
+        deleteRemovedScholarships(previous, current);
+
+        List<CompiledScholarship> changed = new ArrayList<>();
+        for (CompiledScholarship scholarship : current.scholarships()) {
+            Optional<CompiledScholarship> old = previous.find(scholarship.id());
+            if (old.isEmpty() || !Objects.equals(old.get().details().updatedAt(), scholarship.details().updatedAt())) {
+                changed.add(scholarship);
+            }
+        }
+        if (!changed.isEmpty()) {
+            rescoreScholarships(changed);
+            log.debug("Re-scored {} changed scholarships", changed.size());
+        }
+    }
+
+    private void deleteRemovedScholarships(CompiledScholarshipIndex.Snapshot previous,
+                                           CompiledScholarshipIndex.Snapshot current) {
+        for (CompiledScholarship old : previous.scholarships()) {
+            if (!current.ordinals().containsKey(old.id())) {
+                matchScoreRepository.deleteByScholarshipId(old.id());
+            }
+        }
+    }
+
+    /**
+     * Re-score the given scholarship columns for every student, one profile chunk at a time.
+     */
+    private int rescoreScholarships(List<CompiledScholarship> scholarships) {
+        MatchingConfig.Materialized config = matchingConfig.getMaterialized();
+        int chunkSize = Math.max(config.getProfileChunkSize(), 1);
+        int students = 0;
+        long lastId = 0;
+        List<StudentProfile> chunk;
+        do {
+            chunk = studentProfileRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, chunkSize));
+            List<MatchScoreRow> rows = new ArrayList<>(chunk.size() * scholarships.size());
+            for (StudentProfile profile : chunk) {
+                addRows(rows, profile, scholarships);
+            }
+            matchScoreRepository.upsertAll(rows, config.getBatchSize());
+
+            students += chunk.size();
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == chunkSize);
+        return students;
+    }
+
+    private void rescoreChangedStudents() {
+        List<StudentProfile> changed = studentProfileRepository.findByUpdatedAtAfterOrderByUpdatedAtAsc(profileWatermark);
+        if (changed.isEmpty()) {
+            return;
+        }
+        LocalDateTime watermark = profileWatermark;
+        for (StudentProfile profile : changed) {
+            studentProfileCache.put(profile);
+            rescoreStudent(profile);
+            pendingStudents.remove(profile.getUserId());
+            if (profile.getUpdatedAt().isAfter(watermark)) {
+                watermark = profile.getUpdatedAt();
+            }
+        }
+        profileWatermark = watermark;
+        log.debug("Re-scored {} changed student profiles", changed.size());
+    }
+
+    private void rescorePendingStudents() {
+        for (Iterator<Long> it = pendingStudents.iterator(); it.hasNext(); ) {
+            Long studentUserId = it.next();
+            it.remove();
+            studentProfileRepository.findByUserId(studentUserId).ifPresent(this::rescoreStudent);
+        }
+    }
+
+    private void rescoreStudent(StudentProfile profile) {
+        List<MatchScoreRow> rows = new ArrayList<>(materialized.size());
+        addRows(rows, profile, materialized.scholarships());
+        matchScoreRepository.upsertAll(rows, matchingConfig.getMaterialized().getBatchSize());
+    }
+
+    private void addRows(List<MatchScoreRow> rows, StudentProfile profile, List<CompiledScholarship> scholarships) {
+        StudentFeatureVector features = StudentFeatureVector.of(profile);
+        for (CompiledScholarship scholarship : scholarships) {
+            MatchScore score = matchingService.score(features, scholarship, scoringProfile);
+            rows.add(new MatchScoreRow(profile.getUserId(), scholarship.id(), score.getMatchPercentage(),
+                score.getQuality().name(), score.isEligible()));
+        }
+    }
+}
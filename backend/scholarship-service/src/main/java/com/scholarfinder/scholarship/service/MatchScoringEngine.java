@@ -0,0 +1,281 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import com.scholarfinder.scholarship.dto.MatchRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Scores one student against a candidate list and selects the top matches.
+ *
+ * Large candidate lists are split across a dedicated fork-join pool; each leaf
+ * scores its slice into its own {@link TopMatchSelector} and the partial heaps
+ * and quality counts are merged on the way back up. Small lists are scored
+ * sequentially on the calling thread.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchScoringEngine {
+
+    private final MatchingService matchingService;
+    private final MatchingConfig matchingConfig;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    void start() {
+        MatchingConfig.Parallel config = matchingConfig.getParallel();
+        int parallelism = config.getParallelism() > 0
+            ? config.getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("match-scoring-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        };
+        pool = new ForkJoinPool(parallelism, factory, null, false);
+        log.info("Match scoring pool started with parallelism {}", parallelism);
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdown();
+    }
+
+    /**
+     * Score every candidate and keep the ones passing the request filters.
+     */
+    public TopMatchSelector scoreAll(StudentFeatureVector student, List<CompiledScholarship> candidates,
+                                     MatchRequest request) {
+        MatchingConfig.Parallel config = matchingConfig.getParallel();
+        ScoringTask task = new ScoringTask(student, candidates, request, MatchCursor.parse(request.getCursor()),
+            matchingService.scoringProfile(), 0, candidates.size(), Math.max(config.getBatchSize(), 1));
+
+        if (candidates.size() < config.getSequentialThreshold() || pool.getParallelism() == 1) {
+            return task.scoreRange();
+        }
+        return pool.invoke(task);
+    }
+
+    /**
+     * Score a student against every scholarship of a snapshot, for caching in {@link MatchScoreCache}.
+     * The vector is stamped with the scoring profile version it was computed with.
+     */
+    public MatchVector scoreCatalog(StudentFeatureVector student, LocalDateTime profileVersion,
+                                    CompiledScholarshipIndex.Snapshot snapshot) {
+        MatchingConfig.Parallel config = matchingConfig.getParallel();
+        ScoringProfile profile = matchingService.scoringProfile();
+        int size = snapshot.size();
+        MatchVector vector = new MatchVector(snapshot.version(), profile.version(), profileVersion,
+            new int[size], new String[size]);
+        run(new VectorTask(student, snapshot.scholarships(), profile, vector, null, 0, size,
+            Math.max(config.getBatchSize(), 1)), size);
+        return vector;
+    }
+
+    /**
+     * Score a student against every scholarship of a snapshot keeping per-category points,
+     * as the baseline of what-if simulations.
+     */
+    public CategoryVector scoreCategories(StudentFeatureVector student, LocalDateTime profileVersion,
+                                          CompiledScholarshipIndex.Snapshot snapshot, ScoringProfile profile) {
+        MatchingConfig.Parallel config = matchingConfig.getParallel();
+        int size = snapshot.size();
+        CategoryVector categories = CategoryVector.allocate(snapshot.version(), profile.version(), profileVersion, size);
+        run(new VectorTask(student, snapshot.scholarships(), profile, categories.totals(), categories, 0, size,
+            Math.max(config.getBatchSize(), 1)), size);
+        return categories;
+    }
+
+    private void run(VectorTask task, int size) {
+        if (size < matchingConfig.getParallel().getSequentialThreshold() || pool.getParallelism() == 1) {
+            task.scoreRange();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /**
+     * Select the top matches among the candidate ordinals of a cached vector without re-scoring.
+     */
+    public TopMatchSelector select(MatchVector vector, List<CompiledScholarship> scholarships, BitSet candidates,
+                                   MatchRequest request) {
+        TopMatchSelector selector = new TopMatchSelector(request.getSortBy(), request.getLimit(),
+            MatchCursor.parse(request.getCursor()));
+        boolean eligibleOnly = Boolean.TRUE.equals(request.getEligibleOnly());
+        int minimumBasisPoints = request.getMinimumMatchPercentage() * 100;
+        int[] basisPoints = vector.basisPoints();
+        String[] reasons = vector.ineligibilityReasons();
+
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (eligibleOnly && reasons[i] != null) {
+                continue;
+            }
+            // Same test as getPercentage() >= minimum, since the percentage is bp / 100
+            if (basisPoints[i] >= minimumBasisPoints) {
+                selector.offer(MatchScore.summary(scholarships.get(i), basisPoints[i],
+                    matchingService.determineMatchQuality(basisPoints[i]), reasons[i]), i);
+            }
+        }
+        return selector;
+    }
+
+    /**
+     * Run independent per-student jobs on the scoring pool and return their results in job order.
+     * Jobs may call back into the engine; nested scoring joins within the same pool.
+     */
+    public <T> List<T> invokeAll(List<Callable<T>> jobs) {
+        if (jobs.size() == 1 || pool.getParallelism() == 1) {
+            List<T> results = new ArrayList<>(jobs.size());
+            for (Callable<T> job : jobs) {
+                try {
+                    results.add(job.call());
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return results;
+        }
+
+        List<T> results = new ArrayList<>(jobs.size());
+        for (Future<T> future : pool.invokeAll(jobs)) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while scoring batch", e);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private final class ScoringTask extends RecursiveTask<TopMatchSelector> {
+
+        private final StudentFeatureVector student;
+        private final List<CompiledScholarship> candidates;
+        private final MatchRequest request;
+        private final MatchCursor after;
+        private final ScoringProfile profile;
+        private final int from;
+        private final int to;
+        private final int batchSize;
+
+        ScoringTask(StudentFeatureVector student, List<CompiledScholarship> candidates, MatchRequest request,
+                    MatchCursor after, ScoringProfile profile, int from, int to, int batchSize) {
+            this.student = student;
+            this.candidates = candidates;
+            this.request = request;
+            this.after = after;
+            this.profile = profile;
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected TopMatchSelector compute() {
+            if (to - from <= batchSize) {
+                return scoreRange();
+            }
+
+            int mid = (from + to) >>> 1;
+            ScoringTask left = new ScoringTask(student, candidates, request, after, profile, from, mid, batchSize);
+            ScoringTask right = new ScoringTask(student, candidates, request, after, profile, mid, to, batchSize);
+            left.fork();
+            TopMatchSelector selector = right.compute();
+            selector.merge(left.join());
+            return selector;
+        }
+
+        TopMatchSelector scoreRange() {
+            TopMatchSelector selector = new TopMatchSelector(request.getSortBy(), request.getLimit(), after);
+            boolean eligibleOnly = Boolean.TRUE.equals(request.getEligibleOnly());
+            int minimumPercentage = request.getMinimumMatchPercentage();
+
+            for (int i = from; i < to; i++) {
+                MatchScore score = matchingService.score(student, candidates.get(i), profile);
+                if (eligibleOnly && !score.isEligible()) {
+                    continue;
+                }
+
+                // Filter by minimum match percentage
+                if (score.getPercentage() >= minimumPercentage) {
+                    selector.offer(score, i);
+                }
+            }
+            return selector;
+        }
+    }
+
+    private final class VectorTask extends RecursiveAction {
+
+        private final StudentFeatureVector student;
+        private final List<CompiledScholarship> scholarships;
+        private final ScoringProfile profile;
+        private final MatchVector vector;
+        private final CategoryVector categories;
+        private final int from;
+        private final int to;
+        private final int batchSize;
+
+        VectorTask(StudentFeatureVector student, List<CompiledScholarship> scholarships, ScoringProfile profile,
+                   MatchVector vector, CategoryVector categories, int from, int to, int batchSize) {
+            this.student = student;
+            this.scholarships = scholarships;
+            this.profile = profile;
+            this.vector = vector;
+            this.categories = categories;
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= batchSize) {
+                scoreRange();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new VectorTask(student, scholarships, profile, vector, categories, from, mid, batchSize),
+                new VectorTask(student, scholarships, profile, vector, categories, mid, to, batchSize));
+        }
+
+        // Each task writes a disjoint slice of the arrays
+        void scoreRange() {
+            int[] basisPoints = vector.basisPoints();
+            String[] reasons = vector.ineligibilityReasons();
+            for (int i = from; i < to; i++) {
+                MatchScore score = matchingService.score(student, scholarships.get(i), profile);
+                if (categories != null) {
+                    categories.record(i, score);
+                    continue;
+                }
+                basisPoints[i] = score.getBasisPoints();
+                reasons[i] = score.getIneligibilityReason();
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.dto.MatchChangeDto;
+import com.scholarfinder.scholarship.dto.MatchSimulationRequest;
+import com.scholarfinder.scholarship.dto.MatchSimulationResponse;
+import com.scholarfinder.scholarship.entity.StudentProfile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * What-if simulation of profile changes against the active catalog.
+ *
+ * The delta is applied to a detached copy of the profile and its feature vector is
+ * compared with the saved one to find the affected categories. Every scholarship is
+ * then re-scored by evaluating only those categories on top of the student's cached
+ * per-category baseline ({@link CategoryScoreCache}). Nothing is written back.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MatchSimulationService {
+
+    private final StudentProfileCache studentProfileCache;
+    private final MatchingService matchingService;
+    private final CompiledScholarshipIndex scholarshipIndex;
+    private final MatchScoringEngine scoringEngine;
+    private final CategoryScoreCache categoryScoreCache;
+    private final MatchScoreCache matchScoreCache;
+    private final MatchMetrics matchMetrics;
+
+    private record Change(int ordinal, MatchScore simulated, int gain) {}
+
+    /**
+     * Re-score the active catalog with the request's profile delta applied.
+     */
+    public MatchSimulationResponse simulate(MatchSimulationRequest request) {
+        StudentProfile student = studentProfileCache.get(request.getStudentUserId())
+            .orElseThrow(() -> new RuntimeException("Student profile not found for user: " + request.getStudentUserId()));
+
+        StudentFeatureVector baselineFeatures = StudentFeatureVector.of(student);
+        StudentFeatureVector simulatedFeatures = StudentFeatureVector.of(applyDelta(student, request));
+        Set<MatchCategory> changed = baselineFeatures.changedCategories(simulatedFeatures);
+        log.debug("Simulating {} changed categories for student {}", changed.size(), student.getUserId());
+
+        CompiledScholarshipIndex.Snapshot snapshot = scholarshipIndex.snapshot();
+        ScoringProfile profile = matchingService.scoringProfile();
+        CategoryVector baseline = getBaseline(student, baselineFeatures, snapshot, profile);
+
+        int minimumBasisPoints = request.getMinimumMatchPercentage() != null ? request.getMinimumMatchPercentage() * 100 : 0;
+        boolean eligibleOnly = Boolean.TRUE.equals(request.getEligibleOnly());
+        int[] baselinePoints = baseline.totals().basisPoints();
+        String[] baselineReasons = baseline.totals().ineligibilityReasons();
+        List<CompiledScholarship> scholarships = snapshot.scholarships();
+
+        int baselineMatches = 0;
+        int simulatedMatches = 0;
+        int newlyEligible = 0;
+        int noLongerEligible = 0;
+        List<Change> changedScores = new ArrayList<>();
+
+        for (int i = 0; i < scholarships.size(); i++) {
+            boolean baselineEligible = baselineReasons[i] == null;
+            boolean baselineMatch = baselinePoints[i] >= minimumBasisPoints && (baselineEligible || !eligibleOnly);
+            if (baselineMatch) baselineMatches++;
+
+            if (changed.isEmpty()) {
+                if (baselineMatch) simulatedMatches++;
+                continue;
+            }
+
+            MatchScore simulated = matchingService.rescore(simulatedFeatures, scholarships.get(i), profile,
+                baseline, i, changed);
+            boolean simulatedMatch = simulated.getBasisPoints() >= minimumBasisPoints
+                && (simulated.isEligible() || !eligibleOnly);
+            if (simulatedMatch) simulatedMatches++;
+            if (!baselineEligible && simulated.isEligible()) newlyEligible++;
+            if (baselineEligible && !simulated.isEligible()) noLongerEligible++;
+
+            if ((baselineMatch || simulatedMatch)
+                    && (simulated.getBasisPoints() != baselinePoints[i] || simulated.isEligible() != baselineEligible)) {
+                changedScores.add(new Change(i, simulated, simulated.getBasisPoints() - baselinePoints[i]));
+            }
+        }
+
+        // Biggest gain first
+        changedScores.sort(Comparator.comparingInt(Change::gain).reversed()
+            .thenComparing(change -> change.simulated().getScholarship().id()));
+
+        int limit = request.getLimit() != null ? Math.max(request.getLimit(), 0) : changedScores.size();
+        List<MatchChangeDto> changes = new ArrayList<>(Math.min(limit, changedScores.size()));
+        for (Change change : changedScores.subList(0, Math.min(limit, changedScores.size()))) {
+            int ordinal = change.ordinal();
+            MatchScore simulated = change.simulated();
+            changes.add(MatchChangeDto.builder()
+                .scholarshipId(simulated.getScholarship().id())
+                .title(simulated.getScholarship().details().title())
+                .baselinePercentage(MatchingService.toPercentage(baselinePoints[ordinal]))
+                .simulatedPercentage(simulated.getMatchPercentage())
+                .baselineQuality(profile.quality(baselinePoints[ordinal]).name())
+                .simulatedQuality(simulated.getQuality().name())
+                .baselineEligible(baselineReasons[ordinal] == null)
+                .simulatedEligible(simulated.isEligible())
+                .build());
+        }
+
+        return MatchSimulationResponse.builder()
+            .studentId(student.getUserId())
+            .changedCategories(changed.stream().map(MatchCategory::getLabel).toList())
+            .totalScholarshipsAnalyzed(scholarships.size())
+            .baselineMatches(baselineMatches)
+            .simulatedMatches(simulatedMatches)
+            .newlyEligible(newlyEligible)
+            .noLongerEligible(noLongerEligible)
+            .changes(changes)
+            .build();
+    }
+
+    /**
+     * Cached per-category scores of the saved profile, computed on first use. A fresh
+     * baseline also seeds {@link MatchScoreCache}, since it holds the same totals.
+     */
+    private CategoryVector getBaseline(StudentProfile student, StudentFeatureVector features,
+                                       CompiledScholarshipIndex.Snapshot snapshot, ScoringProfile profile) {
+        Optional<CategoryVector> cached = categoryScoreCache.get(
+            student.getUserId(), student.getUpdatedAt(), snapshot.version(), profile.version());
+        matchMetrics.recordCategoryCache(cached.isPresent());
+        return cached.orElseGet(() -> {
+            CategoryVector scored = scoringEngine.scoreCategories(features, student.getUpdatedAt(), snapshot, profile);
+            categoryScoreCache.put(student.getUserId(), scored);
+            matchScoreCache.put(student.getUserId(), scored.totals());
+            return scored;
+        });
+    }
+
+    /**
+     * Detached copy of the profile with the delta's non-null fields applied.
+     */
+    private StudentProfile applyDelta(StudentProfile student, MatchSimulationRequest delta) {
+        StudentProfile.StudentProfileBuilder copy = student.toBuilder();
+        if (delta.getIntendedLevel() != null) copy.intendedLevel(delta.getIntendedLevel());
+        if (delta.getGrade1() != null) copy.grade1(delta.getGrade1());
+        if (delta.getGrade2() != null) copy.grade2(delta.getGrade2());
+        if (delta.getGrade3() != null) copy.grade3(delta.getGrade3());
+        if (delta.getZScore() != null) copy.zScore(delta.getZScore());
+        if (delta.getAlStream() != null) copy.alStream(delta.getAlStream());
+        if (delta.getEnglishTest() != null) copy.englishTest(delta.getEnglishTest());
+        if (delta.getOverallScore() != null) copy.overallScore(delta.getOverallScore());
+        if (delta.getDateOfBirth() != null) copy.dateOfBirth(delta.getDateOfBirth());
+        if (delta.getNationality() != null) copy.nationality(delta.getNationality());
+        if (delta.getHouseholdIncome() != null) copy.householdIncome(delta.getHouseholdIncome());
+        if (delta.getPreferredFields() != null) copy.preferredFields(delta.getPreferredFields().toArray(new String[0]));
+        if (delta.getSports() != null) copy.sports(delta.getSports());
+        if (delta.getLeadership() != null) copy.leadership(delta.getLeadership());
+        if (delta.getFirstGeneration() != null) copy.firstGeneration(delta.getFirstGeneration());
+        if (delta.getDisability() != null) copy.disability(delta.getDisability());
+        if (delta.getWillingToReturn() != null) copy.willingToReturn(delta.getWillingToReturn());
+        return copy.build();
+    }
+}
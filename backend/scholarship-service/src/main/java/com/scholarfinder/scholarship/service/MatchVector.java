@@ -0,0 +1,27 @@
+package com.scholarfinder.scholarship.service;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * One student's scores against every scholarship of a catalog snapshot, indexed by ordinal.
+ *
+ * Valid only while the student's profile ({@code updatedAt}), the catalog snapshot
+ * version and the {@link ScoringProfile} version are unchanged; {@link MatchScoreCache}
+ * checks all three on lookup.
+ *
+ * @param basisPoints          match percentage in basis points per ordinal
+ * @param ineligibilityReasons first mandatory failure per ordinal, null when eligible
+ */
+public record MatchVector(long catalogVersion, long scoringVersion, LocalDateTime profileVersion,
+                          int[] basisPoints, String[] ineligibilityReasons) {
+
+    public int size() {
+        return basisPoints.length;
+    }
+
+    public boolean isCurrent(LocalDateTime profileVersion, long catalogVersion, long scoringVersion) {
+        return this.catalogVersion == catalogVersion && this.scoringVersion == scoringVersion
+            && Objects.equals(this.profileVersion, profileVersion);
+    }
+}
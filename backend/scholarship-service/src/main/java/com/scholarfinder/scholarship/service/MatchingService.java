@@ -1,6 +1,5 @@
 package com.scholarfinder.scholarship.service;
 
-import com.scholarfinder.scholarship.config.MatchingConfig;
 import com.scholarfinder.scholarship.dto.MatchResult;
 import com.scholarfinder.scholarship.dto.MatchResult.*;
 import com.scholarfinder.scholarship.entity.Scholarship;
@@ -10,7 +9,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.*;
 
 /**
@@ -31,7 +29,8 @@ import java.util.*;
 @Slf4j
 public class MatchingService {
 
-    private final MatchingConfig config;
+    private final ScoringProfiles scoringProfiles;
+    private final MatchMetrics matchMetrics;
 
     // Income level mapping for comparison
     private static final Map<String, Integer> INCOME_LEVELS = Map.of(
@@ -44,440 +43,563 @@ public class MatchingService {
         "Above LKR 200,000", 7
     );
 
+    /**
+     * Map a household income bracket label to its ordinal (unknown labels rank mid-table).
+     */
+    static int incomeLevel(String bracket) {
+        return INCOME_LEVELS.getOrDefault(bracket, 5);
+    }
+
     /**
      * Calculate match result between a student and a scholarship.
      */
     public MatchResult calculateMatch(StudentProfile student, Scholarship scholarship) {
+        return calculateMatch(student, CompiledScholarship.compile(scholarship));
+    }
+
+    /**
+     * Calculate match result between a student and an indexed scholarship.
+     */
+    public MatchResult calculateMatch(StudentProfile student, CompiledScholarship scholarship) {
+        return calculateMatch(StudentFeatureVector.of(student), scholarship);
+    }
+
+    /**
+     * Calculate match result from pre-derived student features.
+     * Callers scoring many scholarships should build the vector once and reuse it.
+     */
+    public MatchResult calculateMatch(StudentFeatureVector student, CompiledScholarship scholarship) {
         log.debug("Calculating match for student {} with scholarship {}", 
-                  student.getUserId(), scholarship.getId());
+                  student.userId(), scholarship.id());
 
+        ScoringProfile profile = scoringProfiles.current();
         List<MatchedCriterion> matchedCriteria = new ArrayList<>();
         List<UnmatchedCriterion> unmatchedCriteria = new ArrayList<>();
-        
-        // Calculate scores for each category
-        CategoryScore educationScore = evaluateEducationLevel(student, scholarship, matchedCriteria, unmatchedCriteria);
-        CategoryScore academicScore = evaluateAcademicPerformance(student, scholarship, matchedCriteria, unmatchedCriteria);
-        CategoryScore englishScore = evaluateEnglishProficiency(student, scholarship, matchedCriteria, unmatchedCriteria);
-        CategoryScore ageScore = evaluateAge(student, scholarship, matchedCriteria, unmatchedCriteria);
-        CategoryScore nationalityScore = evaluateNationality(student, scholarship, matchedCriteria, unmatchedCriteria);
-        CategoryScore financialScore = evaluateFinancialNeed(student, scholarship, matchedCriteria, unmatchedCriteria);
-        CategoryScore fieldScore = evaluateFieldOfStudy(student, scholarship, matchedCriteria, unmatchedCriteria);
-        CategoryScore specialScore = evaluateSpecialCategories(student, scholarship, matchedCriteria, unmatchedCriteria);
-        
-        // Calculate total score
-        int totalEarned = educationScore.getEarned() + academicScore.getEarned() + 
-                          englishScore.getEarned() + ageScore.getEarned() +
-                          nationalityScore.getEarned() + financialScore.getEarned() +
-                          fieldScore.getEarned() + specialScore.getEarned();
-        
-        int totalMax = config.getWeights().getTotal();
-        
-        BigDecimal matchPercentage = BigDecimal.valueOf(totalEarned)
-            .divide(BigDecimal.valueOf(totalMax), 4, RoundingMode.HALF_UP)
-            .multiply(BigDecimal.valueOf(100))
-            .setScale(2, RoundingMode.HALF_UP);
-
-        // Determine match quality
-        MatchQuality quality = determineMatchQuality(matchPercentage);
-        
-        // Check eligibility (must meet mandatory criteria)
-        EligibilityResult eligibility = checkEligibility(student, scholarship, unmatchedCriteria);
+        MatchScore score = evaluate(student, scholarship, profile, matchedCriteria, unmatchedCriteria);
 
         // Build breakdown
         MatchBreakdown breakdown = MatchBreakdown.builder()
-            .educationLevel(educationScore)
-            .academicPerformance(academicScore)
-            .englishProficiency(englishScore)
-            .age(ageScore)
-            .nationality(nationalityScore)
-            .financialNeed(financialScore)
-            .fieldOfStudy(fieldScore)
-            .specialCategories(specialScore)
+            .educationLevel(buildCategoryScore(score, profile, MatchCategory.EDUCATION_LEVEL))
+            .academicPerformance(buildCategoryScore(score, profile, MatchCategory.ACADEMIC_PERFORMANCE))
+            .englishProficiency(buildCategoryScore(score, profile, MatchCategory.ENGLISH_PROFICIENCY))
+            .age(buildCategoryScore(score, profile, MatchCategory.AGE))
+            .nationality(buildCategoryScore(score, profile, MatchCategory.NATIONALITY))
+            .financialNeed(buildCategoryScore(score, profile, MatchCategory.FINANCIAL_NEED))
+            .fieldOfStudy(buildCategoryScore(score, profile, MatchCategory.FIELD_OF_STUDY))
+            .specialCategories(buildCategoryScore(score, profile, MatchCategory.SPECIAL_CATEGORIES))
             .build();
 
         return MatchResult.builder()
-            .scholarshipId(scholarship.getId())
-            .studentId(student.getUserId())
-            .matchPercentage(matchPercentage)
-            .matchQuality(quality)
+            .scholarshipId(scholarship.id())
+            .studentId(student.userId())
+            .matchPercentage(score.getMatchPercentage())
+            .matchQuality(score.getQuality())
             .matchedCriteria(matchedCriteria)
             .unmatchedCriteria(unmatchedCriteria)
             .breakdown(breakdown)
-            .eligible(eligibility.isEligible())
-            .ineligibilityReason(eligibility.getReason())
+            .eligible(score.isEligible())
+            .ineligibilityReason(score.getIneligibilityReason())
             .build();
     }
 
+    /**
+     * Score a student against a scholarship without building any explanation text.
+     * Use {@link #explain} on the scores that are actually returned to the client.
+     */
+    public MatchScore score(StudentFeatureVector student, CompiledScholarship scholarship) {
+        return evaluate(student, scholarship, scoringProfiles.current(), null, null);
+    }
+
+    /**
+     * Score with a given profile; passes over many scholarships take the profile once
+     * so every score of the pass uses the same weights version.
+     */
+    public MatchScore score(StudentFeatureVector student, CompiledScholarship scholarship, ScoringProfile profile) {
+        return evaluate(student, scholarship, profile, null, null);
+    }
+
+    /**
+     * The weights and thresholds currently in effect.
+     */
+    public ScoringProfile scoringProfile() {
+        return scoringProfiles.current();
+    }
+
+    /**
+     * Build the full match result, with matched/unmatched criteria, for a score
+     * produced by {@link #score}.
+     */
+    public MatchResult explain(StudentFeatureVector student, MatchScore score) {
+        return calculateMatch(student, score.getScholarship());
+    }
+
+    /**
+     * Re-score a student against a scholarship, evaluating only the {@code changed}
+     * categories and taking every other category's points and mandatory failure from
+     * the baseline row {@code ordinal} of {@code baseline}, which must have been scored
+     * with {@code profile}.
+     */
+    public MatchScore rescore(StudentFeatureVector student, CompiledScholarship scholarship, ScoringProfile profile,
+                              CategoryVector baseline, int ordinal, Set<MatchCategory> changed) {
+        MatchScore score = new MatchScore(scholarship);
+        for (MatchCategory category : MatchCategory.all()) {
+            if (changed.contains(category)) {
+                score.begin(category);
+                score.setEarned(category, evaluateCategory(category, student, scholarship, score,
+                    profile.weight(category), null, null));
+            } else {
+                score.restore(category, baseline.earned(ordinal, category), baseline.failure(ordinal, category));
+            }
+        }
+        return complete(score, profile);
+    }
+
+    /**
+     * Run every category evaluator. Explanation criteria are collected only when
+     * the lists are non-null, so the score-only pass allocates nothing but the score.
+     */
+    private MatchScore evaluate(StudentFeatureVector student, CompiledScholarship scholarship, ScoringProfile profile,
+                                List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
+        MatchScore score = new MatchScore(scholarship);
+        boolean timed = matchMetrics.sampleCategories();
+
+        // Calculate scores for each category (order matters: the first mandatory failure is the reason)
+        for (MatchCategory category : MatchCategory.all()) {
+            score.begin(category);
+            long start = timed ? System.nanoTime() : 0;
+            score.setEarned(category, evaluateCategory(category, student, scholarship, score,
+                profile.weight(category), matched, unmatched));
+            if (timed) {
+                matchMetrics.recordCategory(category, System.nanoTime() - start);
+            }
+        }
+        return complete(score, profile);
+    }
+
+    private int evaluateCategory(MatchCategory category, StudentFeatureVector student, CompiledScholarship scholarship,
+                                 MatchScore score, int maxPoints,
+                                 List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
+        return switch (category) {
+            case EDUCATION_LEVEL -> evaluateEducationLevel(student, scholarship, score, maxPoints, matched, unmatched);
+            case ACADEMIC_PERFORMANCE -> evaluateAcademicPerformance(student, scholarship, score, maxPoints, matched, unmatched);
+            case ENGLISH_PROFICIENCY -> evaluateEnglishProficiency(student, scholarship, score, maxPoints, matched, unmatched);
+            case AGE -> evaluateAge(student, scholarship, score, maxPoints, matched, unmatched);
+            case NATIONALITY -> evaluateNationality(student, scholarship, score, maxPoints, matched, unmatched);
+            case FINANCIAL_NEED -> evaluateFinancialNeed(student, scholarship, score, maxPoints, matched, unmatched);
+            case FIELD_OF_STUDY -> evaluateFieldOfStudy(student, scholarship, score, maxPoints, matched, unmatched);
+            case SPECIAL_CATEGORIES -> evaluateSpecialCategories(student, scholarship, score, maxPoints, matched, unmatched);
+        };
+    }
+
+    // Calculate total score and determine match quality
+    private MatchScore complete(MatchScore score, ScoringProfile profile) {
+        int matchBasisPoints = basisPoints(score.totalEarned(), profile.totalWeight());
+        score.complete(matchBasisPoints, profile.quality(matchBasisPoints));
+        return score;
+    }
+
     /**
      * Evaluate education level match (20 points).
      */
-    private CategoryScore evaluateEducationLevel(StudentProfile student, Scholarship scholarship,
-                                                  List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
-        int maxPoints = config.getWeights().getEducationLevel();
+    private int evaluateEducationLevel(StudentFeatureVector student, CompiledScholarship scholarship, MatchScore score,
+                                       int maxPoints, List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
         int earnedPoints = 0;
         String category = "Education Level";
 
-        String studentLevel = student.getIntendedLevel();
-        String[] eligibleLevels = scholarship.getEligibleLevels();
+        String studentLevel = student.profile().getIntendedLevel();
+        List<String> eligibleLevels = scholarship.details().eligibleLevels();
+
+        if (scholarship.levelsRestricted() && student.level() != null) {
+            boolean levelMatches = scholarship.levels().contains(student.level());
 
-        if (eligibleLevels != null && studentLevel != null) {
-            boolean levelMatches = Arrays.asList(eligibleLevels).contains(studentLevel.toUpperCase());
-            
             if (levelMatches) {
                 earnedPoints = maxPoints;
-                matched.add(MatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Education level matches")
-                    .studentValue(studentLevel)
-                    .requiredValue(String.join(", ", eligibleLevels))
-                    .pointsEarned(earnedPoints)
-                    .maxPoints(maxPoints)
-                    .build());
+                if (matched != null) {
+                    matched.add(MatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Education level matches")
+                        .studentValue(studentLevel)
+                        .requiredValue(String.join(", ", eligibleLevels))
+                        .pointsEarned(earnedPoints)
+                        .maxPoints(maxPoints)
+                        .build());
+                }
             } else {
-                unmatched.add(UnmatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Education level does not match")
-                    .studentValue(studentLevel)
-                    .requiredValue(String.join(", ", eligibleLevels))
-                    .pointsMissed(maxPoints)
-                    .mandatory(true)
-                    .suggestion("This scholarship is for " + String.join(" or ", eligibleLevels) + " students")
-                    .build());
+                score.failMandatory("Education level does not match");
+                if (unmatched != null) {
+                    unmatched.add(UnmatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Education level does not match")
+                        .studentValue(studentLevel)
+                        .requiredValue(String.join(", ", eligibleLevels))
+                        .pointsMissed(maxPoints)
+                        .mandatory(true)
+                        .suggestion("This scholarship is for " + String.join(" or ", eligibleLevels) + " students")
+                        .build());
+                }
             }
         } else {
             // If no level requirement, give full points
             earnedPoints = maxPoints;
         }
 
-        return buildCategoryScore(category, earnedPoints, maxPoints);
+        return earnedPoints;
     }
 
     /**
      * Evaluate academic performance (15 points).
      * Considers: GPA/A-L grades, Z-score, O/L results
      */
-    private CategoryScore evaluateAcademicPerformance(StudentProfile student, Scholarship scholarship,
-                                                       List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
-        int maxPoints = config.getWeights().getAcademicPerformance();
+    private int evaluateAcademicPerformance(StudentFeatureVector student, CompiledScholarship scholarship, MatchScore score,
+                                            int maxPoints, List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
         int earnedPoints = 0;
         String category = "Academic Performance";
 
         // Check GPA (5 points)
-        BigDecimal studentGpa = student.getCalculatedGpa();
-        BigDecimal requiredGpa = scholarship.getMinGpa();
-        
-        if (requiredGpa != null && studentGpa != null) {
-            if (studentGpa.compareTo(requiredGpa) >= 0) {
+        BigDecimal studentGpa = student.gpaValue();
+        BigDecimal requiredGpa = scholarship.details().minGpa();
+
+        if (scholarship.minGpa() != CompiledScholarship.NONE && student.gpa() != CompiledScholarship.NONE) {
+            if (student.gpa() >= scholarship.minGpa()) {
                 earnedPoints += 5;
-                matched.add(MatchedCriterion.builder()
-                    .category(category)
-                    .criterion("GPA requirement met")
-                    .studentValue(studentGpa.toString())
-                    .requiredValue("Minimum " + requiredGpa.toString())
-                    .pointsEarned(5)
-                    .maxPoints(5)
-                    .build());
+                if (matched != null) {
+                    matched.add(MatchedCriterion.builder()
+                        .category(category)
+                        .criterion("GPA requirement met")
+                        .studentValue(studentGpa.toString())
+                        .requiredValue("Minimum " + requiredGpa.toString())
+                        .pointsEarned(5)
+                        .maxPoints(5)
+                        .build());
+                }
             } else {
-                unmatched.add(UnmatchedCriterion.builder()
-                    .category(category)
-                    .criterion("GPA below requirement")
-                    .studentValue(studentGpa.toString())
-                    .requiredValue("Minimum " + requiredGpa.toString())
-                    .pointsMissed(5)
-                    .mandatory(false)
-                    .suggestion("Improve academic grades to meet minimum GPA of " + requiredGpa)
-                    .build());
+                if (unmatched != null) {
+                    unmatched.add(UnmatchedCriterion.builder()
+                        .category(category)
+                        .criterion("GPA below requirement")
+                        .studentValue(studentGpa.toString())
+                        .requiredValue("Minimum " + requiredGpa.toString())
+                        .pointsMissed(5)
+                        .mandatory(false)
+                        .suggestion("Improve academic grades to meet minimum GPA of " + requiredGpa)
+                        .build());
+                }
             }
         } else {
             earnedPoints += 5; // No GPA requirement
         }
 
         // Check Z-score (5 points)
-        BigDecimal studentZScore = student.getZScore();
-        BigDecimal requiredZScore = scholarship.getMinZScore();
-        
-        if (requiredZScore != null && studentZScore != null) {
-            if (studentZScore.compareTo(requiredZScore) >= 0) {
+        BigDecimal studentZScore = student.profile().getZScore();
+        BigDecimal requiredZScore = scholarship.details().minZScore();
+
+        if (scholarship.minZScore() != CompiledScholarship.NONE && student.zScore() != CompiledScholarship.NONE) {
+            if (student.zScore() >= scholarship.minZScore()) {
                 earnedPoints += 5;
-                matched.add(MatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Z-score requirement met")
-                    .studentValue(studentZScore.toString())
-                    .requiredValue("Minimum " + requiredZScore.toString())
-                    .pointsEarned(5)
-                    .maxPoints(5)
-                    .build());
+                if (matched != null) {
+                    matched.add(MatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Z-score requirement met")
+                        .studentValue(studentZScore.toString())
+                        .requiredValue("Minimum " + requiredZScore.toString())
+                        .pointsEarned(5)
+                        .maxPoints(5)
+                        .build());
+                }
             } else {
-                unmatched.add(UnmatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Z-score below requirement")
-                    .studentValue(studentZScore.toString())
-                    .requiredValue("Minimum " + requiredZScore.toString())
-                    .pointsMissed(5)
-                    .mandatory(false)
-                    .suggestion("Z-score requirement not met")
-                    .build());
+                if (unmatched != null) {
+                    unmatched.add(UnmatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Z-score below requirement")
+                        .studentValue(studentZScore.toString())
+                        .requiredValue("Minimum " + requiredZScore.toString())
+                        .pointsMissed(5)
+                        .mandatory(false)
+                        .suggestion("Z-score requirement not met")
+                        .build());
+                }
             }
         } else {
             earnedPoints += 5; // No Z-score requirement
         }
 
         // Check A/L stream (5 points)
-        String studentStream = student.getAlStream();
-        String requiredStream = scholarship.getRequiredAlStream();
-        
-        if (requiredStream != null && !"ANY".equalsIgnoreCase(requiredStream) && studentStream != null) {
-            if (requiredStream.equalsIgnoreCase(studentStream)) {
+        String studentStream = student.profile().getAlStream();
+        String requiredStream = scholarship.details().requiredAlStream();
+
+        if (scholarship.alStream() != null && student.alStream() != null) {
+            if (scholarship.alStream().equals(student.alStream())) {
                 earnedPoints += 5;
-                matched.add(MatchedCriterion.builder()
-                    .category(category)
-                    .criterion("A/L stream matches")
-                    .studentValue(studentStream)
-                    .requiredValue(requiredStream)
-                    .pointsEarned(5)
-                    .maxPoints(5)
-                    .build());
+                if (matched != null) {
+                    matched.add(MatchedCriterion.builder()
+                        .category(category)
+                        .criterion("A/L stream matches")
+                        .studentValue(studentStream)
+                        .requiredValue(requiredStream)
+                        .pointsEarned(5)
+                        .maxPoints(5)
+                        .build());
+                }
             } else {
-                unmatched.add(UnmatchedCriterion.builder()
-                    .category(category)
-                    .criterion("A/L stream does not match")
-                    .studentValue(studentStream)
-                    .requiredValue(requiredStream)
-                    .pointsMissed(5)
-                    .mandatory(false)
-                    .suggestion("This scholarship prefers " + requiredStream + " stream students")
-                    .build());
+                if (unmatched != null) {
+                    unmatched.add(UnmatchedCriterion.builder()
+                        .category(category)
+                        .criterion("A/L stream does not match")
+                        .studentValue(studentStream)
+                        .requiredValue(requiredStream)
+                        .pointsMissed(5)
+                        .mandatory(false)
+                        .suggestion("This scholarship prefers " + requiredStream + " stream students")
+                        .build());
+                }
             }
         } else {
             earnedPoints += 5; // No stream requirement
         }
 
-        return buildCategoryScore(category, earnedPoints, maxPoints);
+        return earnedPoints;
     }
 
     /**
      * Evaluate English proficiency (15 points).
      */
-    private CategoryScore evaluateEnglishProficiency(StudentProfile student, Scholarship scholarship,
-                                                      List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
-        int maxPoints = config.getWeights().getEnglishProficiency();
+    private int evaluateEnglishProficiency(StudentFeatureVector student, CompiledScholarship scholarship, MatchScore score,
+                                           int maxPoints, List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
         int earnedPoints = 0;
         String category = "English Proficiency";
 
-        String requiredTest = scholarship.getRequiredEnglishTest();
-        BigDecimal requiredScore = scholarship.getMinEnglishScore();
-        
-        String studentTest = student.getEnglishTest();
-        BigDecimal studentScore = student.getEnglishScoreAsNumber();
-
-        if (requiredTest != null && requiredScore != null) {
-            if (studentTest != null && studentScore != null) {
-                // Check if test type matches (or is equivalent)
-                boolean testMatches = requiredTest.equalsIgnoreCase(studentTest) ||
-                                     isEquivalentEnglishTest(studentTest, requiredTest);
-                
+        String requiredTest = scholarship.details().requiredEnglishTest();
+        BigDecimal requiredScore = scholarship.details().minEnglishScore();
+
+        String studentTest = student.englishTestName();
+        BigDecimal studentScore = student.englishScoreValue();
+
+        if (scholarship.englishTest() != null && scholarship.minEnglishScore() != CompiledScholarship.NONE) {
+            if (student.hasEnglishResult()) {
+                // Same test compares raw scores; different tests compare concordance bands
+                boolean sameTest = scholarship.englishTest().equals(student.englishTest());
+                boolean testMatches = sameTest ||
+                                     (scholarship.minEnglishBand() != CompiledScholarship.NONE
+                                      && student.englishBand() != CompiledScholarship.NONE);
+
                 if (testMatches) {
-                    // Convert scores if needed and compare
-                    BigDecimal normalizedStudentScore = normalizeEnglishScore(studentScore, studentTest, requiredTest);
-                    
-                    if (normalizedStudentScore.compareTo(requiredScore) >= 0) {
+                    boolean meetsRequirement = sameTest
+                        ? student.englishScore() >= scholarship.minEnglishScore()
+                        : student.englishBand() >= scholarship.minEnglishBand();
+                    if (meetsRequirement) {
                         earnedPoints = maxPoints;
-                        matched.add(MatchedCriterion.builder()
-                            .category(category)
-                            .criterion("English proficiency met")
-                            .studentValue(studentTest + " " + studentScore)
-                            .requiredValue(requiredTest + " " + requiredScore)
-                            .pointsEarned(maxPoints)
-                            .maxPoints(maxPoints)
-                            .build());
+                        if (matched != null) {
+                            matched.add(MatchedCriterion.builder()
+                                .category(category)
+                                .criterion("English proficiency met")
+                                .studentValue(studentTest + " " + studentScore)
+                                .requiredValue(requiredTest + " " + requiredScore)
+                                .pointsEarned(maxPoints)
+                                .maxPoints(maxPoints)
+                                .build());
+                        }
                     } else {
                         // Partial credit for having the test
                         earnedPoints = maxPoints / 2;
+                        if (unmatched != null) {
+                            unmatched.add(UnmatchedCriterion.builder()
+                                .category(category)
+                                .criterion("English score below requirement")
+                                .studentValue(studentTest + " " + studentScore)
+                                .requiredValue(requiredTest + " " + requiredScore + " or higher")
+                                .pointsMissed(maxPoints - earnedPoints)
+                                .mandatory(false)
+                                .suggestion("Retake " + requiredTest + " to achieve score of " + requiredScore)
+                                .build());
+                        }
+                    }
+                } else {
+                    // Wrong test type
+                    earnedPoints = maxPoints / 3;
+                    if (unmatched != null) {
                         unmatched.add(UnmatchedCriterion.builder()
                             .category(category)
-                            .criterion("English score below requirement")
-                            .studentValue(studentTest + " " + studentScore)
-                            .requiredValue(requiredTest + " " + requiredScore + " or higher")
+                            .criterion("Different English test taken")
+                            .studentValue(studentTest)
+                            .requiredValue(requiredTest + " required")
                             .pointsMissed(maxPoints - earnedPoints)
                             .mandatory(false)
-                            .suggestion("Retake " + requiredTest + " to achieve score of " + requiredScore)
+                            .suggestion("Take " + requiredTest + " test with minimum score of " + requiredScore)
                             .build());
                     }
-                } else {
-                    // Wrong test type
-                    earnedPoints = maxPoints / 3;
+                }
+            } else {
+                // No English test taken
+                score.failMandatory("English proficiency test not provided");
+                if (unmatched != null) {
                     unmatched.add(UnmatchedCriterion.builder()
                         .category(category)
-                        .criterion("Different English test taken")
-                        .studentValue(studentTest)
-                        .requiredValue(requiredTest + " required")
-                        .pointsMissed(maxPoints - earnedPoints)
-                        .mandatory(false)
-                        .suggestion("Take " + requiredTest + " test with minimum score of " + requiredScore)
+                        .criterion("English proficiency test not provided")
+                        .studentValue("Not available")
+                        .requiredValue(requiredTest + " " + requiredScore)
+                        .pointsMissed(maxPoints)
+                        .mandatory(true)
+                        .suggestion("Take " + requiredTest + " test and achieve score of " + requiredScore + " or higher")
                         .build());
                 }
-            } else {
-                // No English test taken
-                unmatched.add(UnmatchedCriterion.builder()
-                    .category(category)
-                    .criterion("English proficiency test not provided")
-                    .studentValue("Not available")
-                    .requiredValue(requiredTest + " " + requiredScore)
-                    .pointsMissed(maxPoints)
-                    .mandatory(true)
-                    .suggestion("Take " + requiredTest + " test and achieve score of " + requiredScore + " or higher")
-                    .build());
             }
         } else {
             // No English requirement
             earnedPoints = maxPoints;
         }
 
-        return buildCategoryScore(category, earnedPoints, maxPoints);
+        return earnedPoints;
     }
 
     /**
      * Evaluate age requirement (10 points).
      */
-    private CategoryScore evaluateAge(StudentProfile student, Scholarship scholarship,
-                                       List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
-        int maxPoints = config.getWeights().getAge();
+    private int evaluateAge(StudentFeatureVector student, CompiledScholarship scholarship, MatchScore score,
+                            int maxPoints, List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
         int earnedPoints = 0;
         String category = "Age";
 
-        Integer studentAge = student.getAge();
-        Integer minAge = scholarship.getMinAge();
-        Integer maxAge = scholarship.getMaxAge();
+        int studentAge = student.age();
+        int minAge = scholarship.minAge();
+        int maxAge = scholarship.maxAge();
 
-        if (studentAge != null) {
+        if (studentAge != CompiledScholarship.NONE) {
             boolean ageValid = true;
             String requirement = "";
             
-            if (minAge != null && studentAge < minAge) {
+            if (minAge != CompiledScholarship.NONE && studentAge < minAge) {
                 ageValid = false;
                 requirement = "Minimum age " + minAge;
             }
-            if (maxAge != null && studentAge > maxAge) {
+            if (maxAge != CompiledScholarship.NONE && studentAge > maxAge) {
                 ageValid = false;
                 requirement = "Maximum age " + maxAge;
             }
             
             if (ageValid) {
                 earnedPoints = maxPoints;
-                String ageRange = (minAge != null ? minAge + "" : "No min") + " - " + 
-                                  (maxAge != null ? maxAge + "" : "No max");
-                matched.add(MatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Age requirement met")
-                    .studentValue(studentAge + " years old")
-                    .requiredValue(ageRange)
-                    .pointsEarned(maxPoints)
-                    .maxPoints(maxPoints)
-                    .build());
+                String ageRange = (minAge != CompiledScholarship.NONE ? minAge + "" : "No min") + " - " + 
+                                  (maxAge != CompiledScholarship.NONE ? maxAge + "" : "No max");
+                if (matched != null) {
+                    matched.add(MatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Age requirement met")
+                        .studentValue(studentAge + " years old")
+                        .requiredValue(ageRange)
+                        .pointsEarned(maxPoints)
+                        .maxPoints(maxPoints)
+                        .build());
+                }
             } else {
-                unmatched.add(UnmatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Age outside required range")
-                    .studentValue(studentAge + " years old")
-                    .requiredValue(requirement)
-                    .pointsMissed(maxPoints)
-                    .mandatory(true)
-                    .suggestion("Age requirement cannot be changed")
-                    .build());
+                score.failMandatory("Age outside required range");
+                if (unmatched != null) {
+                    unmatched.add(UnmatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Age outside required range")
+                        .studentValue(studentAge + " years old")
+                        .requiredValue(requirement)
+                        .pointsMissed(maxPoints)
+                        .mandatory(true)
+                        .suggestion("Age requirement cannot be changed")
+                        .build());
+                }
             }
         } else {
             // No age info, give partial credit
             earnedPoints = maxPoints / 2;
         }
 
-        return buildCategoryScore(category, earnedPoints, maxPoints);
+        return earnedPoints;
     }
 
     /**
      * Evaluate nationality (10 points).
      */
-    private CategoryScore evaluateNationality(StudentProfile student, Scholarship scholarship,
-                                               List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
-        int maxPoints = config.getWeights().getNationality();
+    private int evaluateNationality(StudentFeatureVector student, CompiledScholarship scholarship, MatchScore score,
+                                    int maxPoints, List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
         int earnedPoints = 0;
         String category = "Nationality";
 
-        String studentNationality = student.getNationality();
-        String[] eligibleCountries = scholarship.getEligibleCountries();
+        String studentNationality = student.nationality();
+        List<String> eligibleCountries = scholarship.details().eligibleCountries();
+        Set<String> countries = scholarship.countries();
 
-        if (eligibleCountries != null && eligibleCountries.length > 0 && studentNationality != null) {
-            boolean isEligible = Arrays.stream(eligibleCountries)
-                .anyMatch(country -> country.equalsIgnoreCase(studentNationality) ||
-                                    country.equalsIgnoreCase("Sri Lanka") && studentNationality.contains("Sri Lankan"));
+        if (!countries.isEmpty() && studentNationality != null) {
+            boolean isEligible = countries.contains(student.nationalityCode()) ||
+                                 student.sriLankan() && countries.contains("SRI LANKA");
             
             if (isEligible) {
                 earnedPoints = maxPoints;
-                matched.add(MatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Nationality eligible")
-                    .studentValue(studentNationality)
-                    .requiredValue(String.join(", ", eligibleCountries))
-                    .pointsEarned(maxPoints)
-                    .maxPoints(maxPoints)
-                    .build());
+                if (matched != null) {
+                    matched.add(MatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Nationality eligible")
+                        .studentValue(studentNationality)
+                        .requiredValue(String.join(", ", eligibleCountries))
+                        .pointsEarned(maxPoints)
+                        .maxPoints(maxPoints)
+                        .build());
+                }
             } else {
-                unmatched.add(UnmatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Nationality not in eligible list")
-                    .studentValue(studentNationality)
-                    .requiredValue(String.join(", ", eligibleCountries))
-                    .pointsMissed(maxPoints)
-                    .mandatory(true)
-                    .suggestion("This scholarship is only for citizens of " + String.join(", ", eligibleCountries))
-                    .build());
+                score.failMandatory("Nationality not in eligible list");
+                if (unmatched != null) {
+                    unmatched.add(UnmatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Nationality not in eligible list")
+                        .studentValue(studentNationality)
+                        .requiredValue(String.join(", ", eligibleCountries))
+                        .pointsMissed(maxPoints)
+                        .mandatory(true)
+                        .suggestion("This scholarship is only for citizens of " + String.join(", ", eligibleCountries))
+                        .build());
+                }
             }
         } else {
             // No nationality restriction
             earnedPoints = maxPoints;
         }
 
-        return buildCategoryScore(category, earnedPoints, maxPoints);
+        return earnedPoints;
     }
 
     /**
      * Evaluate financial need (10 points).
      */
-    private CategoryScore evaluateFinancialNeed(StudentProfile student, Scholarship scholarship,
-                                                 List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
-        int maxPoints = config.getWeights().getFinancialNeed();
+    private int evaluateFinancialNeed(StudentFeatureVector student, CompiledScholarship scholarship, MatchScore score,
+                                      int maxPoints, List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
         int earnedPoints = 0;
         String category = "Financial Need";
 
-        Boolean requiresFinancialNeed = scholarship.getRequiresFinancialNeed();
-        String maxIncome = scholarship.getMaxHouseholdIncome();
+        String maxIncome = scholarship.details().maxHouseholdIncome();
 
-        if (Boolean.TRUE.equals(requiresFinancialNeed)) {
-            String studentIncome = student.getHouseholdIncome();
+        if (scholarship.requiresFinancialNeed()) {
+            String studentIncome = student.householdIncome();
             
-            if (studentIncome != null && maxIncome != null) {
-                int studentIncomeLevel = INCOME_LEVELS.getOrDefault(studentIncome, 5);
-                int maxIncomeLevel = INCOME_LEVELS.getOrDefault(maxIncome, 5);
-                
-                if (studentIncomeLevel <= maxIncomeLevel) {
+            if (studentIncome != null && scholarship.maxIncomeLevel() != CompiledScholarship.NONE) {
+                if (student.incomeLevel() <= scholarship.maxIncomeLevel()) {
                     earnedPoints = maxPoints;
-                    matched.add(MatchedCriterion.builder()
-                        .category(category)
-                        .criterion("Financial need criteria met")
-                        .studentValue(studentIncome)
-                        .requiredValue("Maximum " + maxIncome)
-                        .pointsEarned(maxPoints)
-                        .maxPoints(maxPoints)
-                        .build());
+                    if (matched != null) {
+                        matched.add(MatchedCriterion.builder()
+                            .category(category)
+                            .criterion("Financial need criteria met")
+                            .studentValue(studentIncome)
+                            .requiredValue("Maximum " + maxIncome)
+                            .pointsEarned(maxPoints)
+                            .maxPoints(maxPoints)
+                            .build());
+                    }
                 } else {
-                    unmatched.add(UnmatchedCriterion.builder()
-                        .category(category)
-                        .criterion("Income above threshold")
-                        .studentValue(studentIncome)
-                        .requiredValue("Maximum " + maxIncome)
-                        .pointsMissed(maxPoints)
-                        .mandatory(false)
-                        .suggestion("This scholarship prioritizes students from lower income backgrounds")
-                        .build());
+                    if (unmatched != null) {
+                        unmatched.add(UnmatchedCriterion.builder()
+                            .category(category)
+                            .criterion("Income above threshold")
+                            .studentValue(studentIncome)
+                            .requiredValue("Maximum " + maxIncome)
+                            .pointsMissed(maxPoints)
+                            .mandatory(false)
+                            .suggestion("This scholarship prioritizes students from lower income backgrounds")
+                            .build());
+                    }
                 }
             } else if (studentIncome != null) {
                 // Has financial info but no specific requirement
@@ -488,50 +610,49 @@ public class MatchingService {
             earnedPoints = maxPoints;
         }
 
-        return buildCategoryScore(category, earnedPoints, maxPoints);
+        return earnedPoints;
     }
 
     /**
      * Evaluate field of study match (10 points).
      */
-    private CategoryScore evaluateFieldOfStudy(StudentProfile student, Scholarship scholarship,
-                                                List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
-        int maxPoints = config.getWeights().getFieldOfStudy();
+    private int evaluateFieldOfStudy(StudentFeatureVector student, CompiledScholarship scholarship, MatchScore score,
+                                     int maxPoints, List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
         int earnedPoints = 0;
         String category = "Field of Study";
 
-        String[] eligibleFields = scholarship.getEligibleFields();
-        String[] studentFields = student.getPreferredFields();
-
-        if (eligibleFields != null && eligibleFields.length > 0) {
-            if (studentFields != null && studentFields.length > 0) {
-                // Check for any matching field
-                boolean hasMatch = Arrays.stream(studentFields)
-                    .anyMatch(sf -> Arrays.stream(eligibleFields)
-                        .anyMatch(ef -> ef.equalsIgnoreCase(sf) || 
-                                       ef.toLowerCase().contains(sf.toLowerCase()) ||
-                                       sf.toLowerCase().contains(ef.toLowerCase())));
-                
+        List<String> eligibleFields = scholarship.details().eligibleFields();
+        FieldTaxonomy.FieldSet studentFields = student.fields();
+
+        if (!scholarship.fields().isEmpty()) {
+            if (!studentFields.isEmpty()) {
+                // Any student field contained in an eligible field or vice versa, as interned phrase IDs
+                boolean hasMatch = studentFields.matches(scholarship.fields());
+
                 if (hasMatch) {
                     earnedPoints = maxPoints;
-                    matched.add(MatchedCriterion.builder()
-                        .category(category)
-                        .criterion("Field of study matches")
-                        .studentValue(String.join(", ", studentFields))
-                        .requiredValue(String.join(", ", eligibleFields))
-                        .pointsEarned(maxPoints)
-                        .maxPoints(maxPoints)
-                        .build());
+                    if (matched != null) {
+                        matched.add(MatchedCriterion.builder()
+                            .category(category)
+                            .criterion("Field of study matches")
+                            .studentValue(student.fieldsDisplay())
+                            .requiredValue(String.join(", ", eligibleFields))
+                            .pointsEarned(maxPoints)
+                            .maxPoints(maxPoints)
+                            .build());
+                    }
                 } else {
-                    unmatched.add(UnmatchedCriterion.builder()
-                        .category(category)
-                        .criterion("Field of study does not match")
-                        .studentValue(String.join(", ", studentFields))
-                        .requiredValue(String.join(", ", eligibleFields))
-                        .pointsMissed(maxPoints)
-                        .mandatory(false)
-                        .suggestion("This scholarship is for " + String.join(", ", eligibleFields) + " fields")
-                        .build());
+                    if (unmatched != null) {
+                        unmatched.add(UnmatchedCriterion.builder()
+                            .category(category)
+                            .criterion("Field of study does not match")
+                            .studentValue(student.fieldsDisplay())
+                            .requiredValue(String.join(", ", eligibleFields))
+                            .pointsMissed(maxPoints)
+                            .mandatory(false)
+                            .suggestion("This scholarship is for " + String.join(", ", eligibleFields) + " fields")
+                            .build());
+                    }
                 }
             } else {
                 // Student hasn't specified preferred fields
@@ -542,126 +663,141 @@ public class MatchingService {
             earnedPoints = maxPoints;
         }
 
-        return buildCategoryScore(category, earnedPoints, maxPoints);
+        return earnedPoints;
     }
 
     /**
      * Evaluate special categories (10 points).
      * Sports, leadership, first-generation, disability-friendly
      */
-    private CategoryScore evaluateSpecialCategories(StudentProfile student, Scholarship scholarship,
-                                                     List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
-        int maxPoints = config.getWeights().getSpecialCategories();
+    private int evaluateSpecialCategories(StudentFeatureVector student, CompiledScholarship scholarship, MatchScore score,
+                                          int maxPoints, List<MatchedCriterion> matched, List<UnmatchedCriterion> unmatched) {
         int earnedPoints = 0;
         String category = "Special Categories";
         int criteriaCount = 0;
         int matchedCount = 0;
 
         // Sports achievement
-        if (Boolean.TRUE.equals(scholarship.getSportsAchievementRequired())) {
+        if (scholarship.sportsRequired()) {
             criteriaCount++;
-            if ("Yes".equalsIgnoreCase(student.getSports())) {
+            if (student.sports()) {
                 matchedCount++;
-                matched.add(MatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Sports achievement")
-                    .studentValue("Yes")
-                    .requiredValue("Sports achievement required")
-                    .pointsEarned(maxPoints / 4)
-                    .maxPoints(maxPoints / 4)
-                    .build());
+                if (matched != null) {
+                    matched.add(MatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Sports achievement")
+                        .studentValue("Yes")
+                        .requiredValue("Sports achievement required")
+                        .pointsEarned(maxPoints / 4)
+                        .maxPoints(maxPoints / 4)
+                        .build());
+                }
             } else {
-                unmatched.add(UnmatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Sports achievement not indicated")
-                    .studentValue("No")
-                    .requiredValue("Sports achievement preferred")
-                    .pointsMissed(maxPoints / 4)
-                    .mandatory(false)
-                    .suggestion("Highlight any sports achievements in your profile")
-                    .build());
+                if (unmatched != null) {
+                    unmatched.add(UnmatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Sports achievement not indicated")
+                        .studentValue("No")
+                        .requiredValue("Sports achievement preferred")
+                        .pointsMissed(maxPoints / 4)
+                        .mandatory(false)
+                        .suggestion("Highlight any sports achievements in your profile")
+                        .build());
+                }
             }
         }
 
         // Leadership
-        if (Boolean.TRUE.equals(scholarship.getLeadershipRequired())) {
+        if (scholarship.leadershipRequired()) {
             criteriaCount++;
-            if ("Yes".equalsIgnoreCase(student.getLeadership())) {
+            if (student.leadership()) {
                 matchedCount++;
-                matched.add(MatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Leadership experience")
-                    .studentValue("Yes")
-                    .requiredValue("Leadership experience required")
-                    .pointsEarned(maxPoints / 4)
-                    .maxPoints(maxPoints / 4)
-                    .build());
+                if (matched != null) {
+                    matched.add(MatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Leadership experience")
+                        .studentValue("Yes")
+                        .requiredValue("Leadership experience required")
+                        .pointsEarned(maxPoints / 4)
+                        .maxPoints(maxPoints / 4)
+                        .build());
+                }
             } else {
-                unmatched.add(UnmatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Leadership experience not indicated")
-                    .studentValue("No")
-                    .requiredValue("Leadership experience preferred")
-                    .pointsMissed(maxPoints / 4)
-                    .mandatory(false)
-                    .suggestion("Highlight any leadership roles in your profile")
-                    .build());
+                if (unmatched != null) {
+                    unmatched.add(UnmatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Leadership experience not indicated")
+                        .studentValue("No")
+                        .requiredValue("Leadership experience preferred")
+                        .pointsMissed(maxPoints / 4)
+                        .mandatory(false)
+                        .suggestion("Highlight any leadership roles in your profile")
+                        .build());
+                }
             }
         }
 
         // First generation priority
-        if (Boolean.TRUE.equals(scholarship.getFirstGenerationPriority())) {
+        if (scholarship.firstGenerationPriority()) {
             criteriaCount++;
-            if ("Yes".equalsIgnoreCase(student.getFirstGeneration())) {
+            if (student.firstGeneration()) {
                 matchedCount++;
+                if (matched != null) {
+                    matched.add(MatchedCriterion.builder()
+                        .category(category)
+                        .criterion("First-generation student")
+                        .studentValue("Yes")
+                        .requiredValue("First-generation students prioritized")
+                        .pointsEarned(maxPoints / 4)
+                        .maxPoints(maxPoints / 4)
+                        .build());
+                }
+            }
+        }
+
+        // Disability friendly
+        if (scholarship.disabilityFriendly() && student.disability()) {
+            matchedCount++;
+            if (matched != null) {
                 matched.add(MatchedCriterion.builder()
                     .category(category)
-                    .criterion("First-generation student")
+                    .criterion("Disability-friendly scholarship")
                     .studentValue("Yes")
-                    .requiredValue("First-generation students prioritized")
+                    .requiredValue("Disability support available")
                     .pointsEarned(maxPoints / 4)
                     .maxPoints(maxPoints / 4)
                     .build());
             }
         }
 
-        // Disability friendly
-        if (Boolean.TRUE.equals(scholarship.getDisabilityFriendly()) && 
-            "Yes".equalsIgnoreCase(student.getDisability())) {
-            matchedCount++;
-            matched.add(MatchedCriterion.builder()
-                .category(category)
-                .criterion("Disability-friendly scholarship")
-                .studentValue("Yes")
-                .requiredValue("Disability support available")
-                .pointsEarned(maxPoints / 4)
-                .maxPoints(maxPoints / 4)
-                .build());
-        }
-
         // Return requirement
-        if (Boolean.TRUE.equals(scholarship.getReturnToHomeRequired())) {
+        if (scholarship.returnToHomeRequired()) {
             criteriaCount++;
-            if ("Yes".equalsIgnoreCase(student.getWillingToReturn())) {
+            if (student.willingToReturn()) {
                 matchedCount++;
-                matched.add(MatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Willing to return to home country")
-                    .studentValue("Yes")
-                    .requiredValue("Must return after studies")
-                    .pointsEarned(maxPoints / 4)
-                    .maxPoints(maxPoints / 4)
-                    .build());
+                if (matched != null) {
+                    matched.add(MatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Willing to return to home country")
+                        .studentValue("Yes")
+                        .requiredValue("Must return after studies")
+                        .pointsEarned(maxPoints / 4)
+                        .maxPoints(maxPoints / 4)
+                        .build());
+                }
             } else {
-                unmatched.add(UnmatchedCriterion.builder()
-                    .category(category)
-                    .criterion("Return requirement")
-                    .studentValue("Not specified")
-                    .requiredValue("Must return to home country after studies")
-                    .pointsMissed(maxPoints / 4)
-                    .mandatory(true)
-                    .suggestion("This scholarship requires returning to your home country")
-                    .build());
+                score.failMandatory("Return requirement");
+                if (unmatched != null) {
+                    unmatched.add(UnmatchedCriterion.builder()
+                        .category(category)
+                        .criterion("Return requirement")
+                        .studentValue("Not specified")
+                        .requiredValue("Must return to home country after studies")
+                        .pointsMissed(maxPoints / 4)
+                        .mandatory(true)
+                        .suggestion("This scholarship requires returning to your home country")
+                        .build());
+                }
             }
         }
 
@@ -672,92 +808,43 @@ public class MatchingService {
             earnedPoints = maxPoints; // No special requirements
         }
 
-        return buildCategoryScore(category, earnedPoints, maxPoints);
-    }
-
-    /**
-     * Determine match quality based on percentage.
-     */
-    private MatchQuality determineMatchQuality(BigDecimal percentage) {
-        int pct = percentage.intValue();
-        if (pct >= config.getThresholds().getExcellentMatch()) {
-            return MatchQuality.EXCELLENT;
-        } else if (pct >= config.getThresholds().getGoodMatch()) {
-            return MatchQuality.GOOD;
-        } else if (pct >= config.getThresholds().getMinimumMatchPercentage()) {
-            return MatchQuality.FAIR;
-        }
-        return MatchQuality.POOR;
-    }
-
-    /**
-     * Check if student is eligible (meets all mandatory criteria).
-     */
-    private EligibilityResult checkEligibility(StudentProfile student, Scholarship scholarship,
-                                                List<UnmatchedCriterion> unmatchedCriteria) {
-        // Check for mandatory unmatched criteria
-        Optional<UnmatchedCriterion> mandatory = unmatchedCriteria.stream()
-            .filter(UnmatchedCriterion::isMandatory)
-            .findFirst();
-        
-        if (mandatory.isPresent()) {
-            return new EligibilityResult(false, mandatory.get().getCriterion());
-        }
-        
-        return new EligibilityResult(true, null);
-    }
-
-    /**
-     * Check if two English tests are equivalent.
-     */
-    private boolean isEquivalentEnglishTest(String test1, String test2) {
-        // IELTS, TOEFL, and PTE are generally accepted equivalents
-        Set<String> acceptableTests = Set.of("IELTS", "TOEFL", "PTE", "TOEFL IBT", "TOEFL ITP");
-        return acceptableTests.contains(test1.toUpperCase()) && 
-               acceptableTests.contains(test2.toUpperCase());
+        return earnedPoints;
     }
 
     /**
-     * Normalize English score for comparison.
+     * Determine match quality based on percentage (in basis points).
      */
-    private BigDecimal normalizeEnglishScore(BigDecimal score, String fromTest, String toTest) {
-        // Simplified conversion - in production, use proper conversion tables
-        if (fromTest.equalsIgnoreCase(toTest)) {
-            return score;
-        }
-        
-        // IELTS is 0-9, TOEFL is 0-120, PTE is 10-90
-        // This is a simplified approximation
-        if ("IELTS".equalsIgnoreCase(fromTest) && "TOEFL".equalsIgnoreCase(toTest)) {
-            // IELTS 7.0 ≈ TOEFL 94
-            return score.multiply(BigDecimal.valueOf(13.4));
-        }
-        if ("TOEFL".equalsIgnoreCase(fromTest) && "IELTS".equalsIgnoreCase(toTest)) {
-            return score.divide(BigDecimal.valueOf(13.4), 1, RoundingMode.HALF_UP);
-        }
-        
-        return score;
+    MatchQuality determineMatchQuality(int basisPoints) {
+        return scoringProfiles.current().quality(basisPoints);
     }
 
     /**
      * Build category score object.
      */
-    private CategoryScore buildCategoryScore(String category, int earned, int maximum) {
-        BigDecimal percentage = maximum > 0 
-            ? BigDecimal.valueOf(earned).divide(BigDecimal.valueOf(maximum), 4, RoundingMode.HALF_UP)
-                .multiply(BigDecimal.valueOf(100)).setScale(2, RoundingMode.HALF_UP)
-            : BigDecimal.ZERO;
-        
+    private CategoryScore buildCategoryScore(MatchScore score, ScoringProfile profile, MatchCategory category) {
+        int earned = score.earned(category);
+        int maximum = profile.weight(category);
         return CategoryScore.builder()
-            .category(category)
+            .category(category.getLabel())
             .earned(earned)
             .maximum(maximum)
-            .percentage(percentage)
+            .percentage(maximum > 0 ? toPercentage(basisPoints(earned, maximum)) : BigDecimal.ZERO)
             .build();
     }
 
     /**
-     * Helper class for eligibility result.
+     * Ratio of earned to maximum points in basis points (0-10000), rounded half-up.
+     * Same value as the former BigDecimal divide(4, HALF_UP) chain, without allocating.
      */
-    private record EligibilityResult(boolean isEligible, String reason) {}
+    static int basisPoints(int earned, int maximum) {
+        // long: earned can reach the total weight, up to every category at Short.MAX_VALUE
+        return (int) ((earned * 20000L + maximum) / (2L * maximum));
+    }
+
+    /**
+     * Materialize basis points as a percentage with two decimals (7525 -> 75.25).
+     */
+    static BigDecimal toPercentage(int basisPoints) {
+        return BigDecimal.valueOf(basisPoints, 2);
+    }
 }
@@ -0,0 +1,121 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.config.ReminderConfig;
+import com.scholarfinder.scholarship.dto.SavedScholarshipDto;
+import com.scholarfinder.scholarship.dto.SavedScholarshipPageDto;
+import com.scholarfinder.scholarship.dto.ScholarshipSummaryDto;
+import com.scholarfinder.scholarship.entity.SavedScholarship;
+import com.scholarfinder.scholarship.repository.DeadlineReminderRepository;
+import com.scholarfinder.scholarship.repository.SavedScholarshipRepository;
+import com.scholarfinder.scholarship.repository.ScholarshipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for students' saved scholarships and their deadline reminders.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SavedScholarshipService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SavedScholarshipRepository savedScholarshipRepository;
+    private final ScholarshipRepository scholarshipRepository;
+    private final DeadlineReminderRepository deadlineReminderRepository;
+    private final ScholarshipService scholarshipService;
+    private final ReminderConfig reminderConfig;
+
+    /**
+     * Save a scholarship for a student; saving it again returns the existing entry.
+     */
+    @Transactional
+    public SavedScholarshipDto save(Long studentUserId, Long scholarshipId) {
+        if (!scholarshipRepository.existsById(scholarshipId)) {
+            throw new RuntimeException("Scholarship not found: " + scholarshipId);
+        }
+        SavedScholarship saved = savedScholarshipRepository.findByStudentIdAndScholarshipId(studentUserId, scholarshipId)
+            .orElseGet(() -> savedScholarshipRepository.save(SavedScholarship.builder()
+                .studentId(studentUserId)
+                .scholarshipId(scholarshipId)
+                .build()));
+        return toDto(saved, scholarshipService.getScholarshipSummaries(List.of(scholarshipId)));
+    }
+
+    /**
+     * Remove a saved scholarship. Returns false when it was not saved.
+     */
+    @Transactional
+    public boolean remove(Long studentUserId, Long scholarshipId) {
+        return savedScholarshipRepository.findByStudentIdAndScholarshipId(studentUserId, scholarshipId)
+            .map(saved -> {
+                savedScholarshipRepository.delete(saved);
+                return true;
+            })
+            .orElse(false);
+    }
+
+    /**
+     * Page of a student's saved scholarships, most recently saved first, after the ID cursor.
+     */
+    @Transactional(readOnly = true)
+    public SavedScholarshipPageDto getSavedScholarships(Long studentUserId, String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        PageRequest page = PageRequest.of(0, pageSize);
+
+        List<SavedScholarship> rows;
+        if (cursor != null && !cursor.isBlank()) {
+            long afterId;
+            try {
+                afterId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("Invalid cursor: " + cursor);
+            }
+            rows = savedScholarshipRepository.findByStudentIdAndIdLessThanOrderByIdDesc(studentUserId, afterId, page);
+        } else {
+            rows = savedScholarshipRepository.findByStudentIdOrderByIdDesc(studentUserId, page);
+        }
+
+        Map<Long, ScholarshipSummaryDto> summaries = scholarshipService.getScholarshipSummaries(
+            rows.stream().map(SavedScholarship::getScholarshipId).toList());
+        List<SavedScholarshipDto> items = new ArrayList<>(rows.size());
+        for (SavedScholarship saved : rows) {
+            items.add(toDto(saved, summaries));
+        }
+
+        return SavedScholarshipPageDto.builder()
+            .savedScholarships(items)
+            .nextCursor(rows.size() == pageSize ? String.valueOf(rows.get(rows.size() - 1).getId()) : null)
+            .build();
+    }
+
+    /**
+     * Queue deadline reminders for every due saved scholarship in one statement.
+     */
+    @Scheduled(cron = "${reminders.cron:0 0 8 * * *}")
+    public void sendDeadlineReminders() {
+        if (!reminderConfig.isEnabled()) {
+            return;
+        }
+        int queued = deadlineReminderRepository.queueReminders(reminderConfig.getDaysBeforeDeadline());
+        log.info("Queued {} saved-scholarship deadline reminders", queued);
+    }
+
+    private SavedScholarshipDto toDto(SavedScholarship saved, Map<Long, ScholarshipSummaryDto> summaries) {
+        return SavedScholarshipDto.builder()
+            .id(saved.getId())
+            .scholarshipId(saved.getScholarshipId())
+            .savedAt(saved.getCreatedAt())
+            .scholarship(summaries.get(saved.getScholarshipId()))
+            .build();
+    }
+}
@@ -4,15 +4,19 @@ import com.scholarfinder.scholarship.config.MatchingConfig;
 import com.scholarfinder.scholarship.dto.*;
 import com.scholarfinder.scholarship.entity.Scholarship;
 import com.scholarfinder.scholarship.entity.StudentProfile;
+import com.scholarfinder.scholarship.repository.MatchScoreRepository;
+import com.scholarfinder.scholarship.repository.MatchScoreRepository.MatchScoreRow;
 import com.scholarfinder.scholarship.repository.ScholarshipRepository;
-import com.scholarfinder.scholarship.repository.StudentProfileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -24,131 +28,422 @@ import java.util.stream.Collectors;
 public class ScholarshipService {
 
     private final ScholarshipRepository scholarshipRepository;
-    private final StudentProfileRepository studentProfileRepository;
+    private final StudentProfileCache studentProfileCache;
     private final MatchingService matchingService;
     private final MatchingConfig matchingConfig;
+    private final CompiledScholarshipIndex scholarshipIndex;
+    private final MatchScoringEngine scoringEngine;
+    private final MatchScoreCache matchScoreCache;
+    private final MatchScoreRepository matchScoreRepository;
+    private final MatchScoreMaterializer matchScoreMaterializer;
+    private final MatchMetrics matchMetrics;
 
     /**
      * Get all matched scholarships for a student.
+     *
+     * Not transactional: the profile and any scholarships outside the index are loaded in
+     * their own short repository transactions, so no connection is held while scoring.
      */
-    @Transactional(readOnly = true)
     public MatchResponse getMatchesForStudent(MatchRequest request) {
         log.info("Finding scholarship matches for student: {}", request.getStudentUserId());
+        long start = matchMetrics.start();
 
         // Get student profile
-        StudentProfile student = studentProfileRepository.findByUserId(request.getStudentUserId())
+        StudentProfile student = studentProfileCache.get(request.getStudentUserId())
             .orElseThrow(() -> new RuntimeException("Student profile not found for user: " + request.getStudentUserId()));
 
-        // Get active scholarships
-        List<Scholarship> scholarships = getFilteredScholarships(request);
-        log.debug("Found {} active scholarships to analyze", scholarships.size());
-
-        // Calculate matches for each scholarship
-        List<ScholarshipMatchDto> matchedScholarships = new ArrayList<>();
-        int excellentCount = 0;
-        int goodCount = 0;
-        int fairCount = 0;
-
-        for (Scholarship scholarship : scholarships) {
-            MatchResult matchResult = matchingService.calculateMatch(student, scholarship);
-            
-            // Filter by minimum match percentage
-            if (matchResult.getMatchPercentage().intValue() >= request.getMinimumMatchPercentage()) {
-                ScholarshipMatchDto dto = mapToMatchDto(scholarship, matchResult);
-                matchedScholarships.add(dto);
+        CompiledScholarshipIndex.Snapshot snapshot = scholarshipIndex.snapshot();
+        List<CompiledScholarship> requested = hasScholarshipIds(request) ? getRequestedScholarships(request, snapshot) : null;
+        matchMetrics.recordPhase(MatchMetrics.Phase.FETCH, start);
+        return matchStudent(student, request, snapshot, requested);
+    }
 
-                // Count by quality
-                switch (matchResult.getMatchQuality()) {
-                    case EXCELLENT -> excellentCount++;
-                    case GOOD -> goodCount++;
-                    case FAIR -> fairCount++;
-                    default -> {}
+    /**
+     * Get matched scholarships for many students in one call.
+     *
+     * Profiles come from the profile cache, misses loaded with one query, and every student is scored against the same
+     * catalog snapshot (and the same resolved scholarship list for explicit IDs), with
+     * students spread over the scoring pool. Students without a profile or whose match
+     * fails are reported in the errors map instead of failing the batch.
+     * Like the single-student call, scoring runs outside any transaction.
+     */
+    public BatchMatchResponse getMatchesForStudents(BatchMatchRequest request) {
+        if (request.getStudentUserIds() == null || request.getStudentUserIds().isEmpty()) {
+            throw new RuntimeException("At least one student user ID is required");
+        }
+        Set<Long> userIds = new LinkedHashSet<>(request.getStudentUserIds());
+        userIds.remove(null);
+        int maxStudents = matchingConfig.getBatch().getMaxStudents();
+        if (userIds.size() > maxStudents) {
+            throw new RuntimeException("Batch exceeds the maximum of " + maxStudents + " students");
+        }
+        log.info("Finding scholarship matches for {} students", userIds.size());
+
+        long start = matchMetrics.start();
+        Map<Long, StudentProfile> profiles = studentProfileCache.getAll(userIds);
+
+        // One snapshot and one resolved scholarship list for the whole batch
+        CompiledScholarshipIndex.Snapshot snapshot = scholarshipIndex.snapshot();
+        MatchRequest template = request.toMatchRequest(null);
+        List<CompiledScholarship> requested = hasScholarshipIds(template) ? getRequestedScholarships(template, snapshot) : null;
+        matchMetrics.recordPhase(MatchMetrics.Phase.FETCH, start);
+
+        List<Callable<BatchOutcome>> jobs = new ArrayList<>(profiles.size());
+        Map<Long, String> errors = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            StudentProfile student = profiles.get(userId);
+            if (student == null) {
+                errors.put(userId, "Student profile not found");
+                continue;
+            }
+            MatchRequest studentRequest = request.toMatchRequest(userId);
+            jobs.add(() -> {
+                try {
+                    return new BatchOutcome(userId, matchStudent(student, studentRequest, snapshot, requested), null);
+                } catch (RuntimeException e) {
+                    log.warn("Batch match failed for student {}: {}", userId, e.getMessage());
+                    return new BatchOutcome(userId, null, e.getMessage());
                 }
+            });
+        }
+
+        List<MatchResponse> results = new ArrayList<>(jobs.size());
+        for (BatchOutcome outcome : scoringEngine.invokeAll(jobs)) {
+            if (outcome.response() != null) {
+                results.add(outcome.response());
+            } else {
+                errors.put(outcome.studentUserId(), outcome.error());
             }
         }
 
-        // Sort results
-        sortMatches(matchedScholarships, request.getSortBy());
+        return BatchMatchResponse.builder()
+            .studentsRequested(userIds.size())
+            .studentsMatched(results.size())
+            .catalogVersion(snapshot.version())
+            .results(results)
+            .errors(errors)
+            .build();
+    }
+
+    private record BatchOutcome(Long studentUserId, MatchResponse response, String error) {}
 
-        // Limit results
-        if (request.getLimit() != null && matchedScholarships.size() > request.getLimit()) {
-            matchedScholarships = matchedScholarships.subList(0, request.getLimit());
+    /**
+     * Match one loaded profile against a catalog snapshot, or against {@code requested}
+     * when the request names explicit scholarships.
+     */
+    private MatchResponse matchStudent(StudentProfile student, MatchRequest request,
+                                       CompiledScholarshipIndex.Snapshot snapshot,
+                                       List<CompiledScholarship> requested) {
+        // Derive matching features once for the whole request
+        StudentFeatureVector features = StudentFeatureVector.of(student);
+
+        // Plain match-ordered requests are indexed reads once scores are materialized
+        long start = matchMetrics.start();
+        if (isMaterializable(request, snapshot)) {
+            MatchResponse materialized = getMaterializedMatches(student, features, request, snapshot, start);
+            if (materialized != null) {
+                return materialized;
+            }
+        }
+
+        // Phase 1: score candidates without building explanation text,
+        // keeping only the best `limit` scores plus quality counters
+        TopMatchSelector selector;
+        int analyzed;
+        if (requested == null) {
+            // Active catalog: reuse the student's cached score vector when profile and catalog are unchanged
+            BitSet candidates = getCandidateOrdinals(snapshot, request, features);
+            analyzed = candidates.cardinality();
+            long scoringVersion = matchingService.scoringProfile().version();
+            Optional<MatchVector> cached = matchScoreCache.get(
+                student.getUserId(), student.getUpdatedAt(), snapshot.version(), scoringVersion);
+            matchMetrics.recordVectorCache(cached.isPresent());
+            if (cached.isPresent()) {
+                selector = scoringEngine.select(cached.get(), snapshot.scholarships(), candidates, request);
+            } else if (analyzed < snapshot.size()) {
+                // Filtered or eligibleOnly miss: score only the candidates and leave the cache
+                // to unfiltered requests, whose full vector serves any later filter
+                selector = scoringEngine.scoreAll(features, snapshot.select(candidates), request);
+            } else {
+                MatchVector scored = scoringEngine.scoreCatalog(features, student.getUpdatedAt(), snapshot);
+                matchScoreCache.put(student.getUserId(), scored);
+                selector = scoringEngine.select(scored, snapshot.scholarships(), candidates, request);
+            }
+        } else {
+            selector = scoringEngine.scoreAll(features, requested, request);
+            analyzed = requested.size();
+        }
+        log.debug("Analyzed {} active scholarships", analyzed);
+        start = matchMetrics.recordPhase(MatchMetrics.Phase.SCORE, start);
+        matchMetrics.recordCandidates(analyzed, selector.getOfferedCount());
+
+        List<MatchScore> topScores = selector.results();
+        matchMetrics.recordReturned(topScores);
+
+        // Phase 2: build explanations only for the results returned to the client
+        List<ScholarshipMatchDto> matchedScholarships = new ArrayList<>(topScores.size());
+        for (MatchScore score : topScores) {
+            MatchResult matchResult = matchingService.explain(features, score);
+            matchedScholarships.add(mapToMatchDto(score.getScholarship(), matchResult));
         }
 
         // Generate improvement suggestions
         List<String> suggestions = generateImprovementSuggestions(student, matchedScholarships);
+        matchMetrics.recordPhase(MatchMetrics.Phase.EXPLAIN, start);
+
+        // Same (score, scholarship ID) keyset as the materialized pages
+        String nextCursor = null;
+        if (isMatchDesc(request) && request.getLimit() != null && request.getLimit() > 0
+                && topScores.size() == request.getLimit()) {
+            nextCursor = MatchCursor.after(topScores.get(topScores.size() - 1)).toString();
+        }
 
         return MatchResponse.builder()
             .studentId(student.getUserId())
             .studentName(student.getFullName())
-            .totalScholarshipsAnalyzed(scholarships.size())
+            .totalScholarshipsAnalyzed(analyzed)
             .matchesFound(matchedScholarships.size())
+            .excellentMatches(selector.getExcellentCount())
+            .goodMatches(selector.getGoodCount())
+            .fairMatches(selector.getFairCount())
+            .scholarships(matchedScholarships)
+            .improvementSuggestions(suggestions)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * Stream matches for a student as they are scored.
+     *
+     * Candidates are scored in catalog (deadline) order and every scholarship that clears
+     * the request filters is explained and handed to {@code sink} immediately, up to the
+     * request limit; sortBy does not apply. The returned summary carries the counts over
+     * all candidates and the suggestions, without the scholarship list.
+     */
+    public MatchResponse streamMatchesForStudent(MatchRequest request, Consumer<ScholarshipMatchDto> sink) {
+        log.info("Streaming scholarship matches for student: {}", request.getStudentUserId());
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            throw new RuntimeException("Streamed matches are not paged; cursor is not supported");
+        }
+
+        StudentProfile student = studentProfileCache.get(request.getStudentUserId())
+            .orElseThrow(() -> new RuntimeException("Student profile not found for user: " + request.getStudentUserId()));
+        StudentFeatureVector features = StudentFeatureVector.of(student);
+
+        CompiledScholarshipIndex.Snapshot snapshot = scholarshipIndex.snapshot();
+        List<CompiledScholarship> scholarships = hasScholarshipIds(request)
+            ? getRequestedScholarships(request, snapshot)
+            : snapshot.select(getCandidateOrdinals(snapshot, request, features));
+
+        boolean eligibleOnly = Boolean.TRUE.equals(request.getEligibleOnly());
+        int limit = request.getLimit() != null ? request.getLimit() : Integer.MAX_VALUE;
+        List<ScholarshipMatchDto> emitted = new ArrayList<>();
+        int excellentCount = 0;
+        int goodCount = 0;
+        int fairCount = 0;
+
+        for (CompiledScholarship scholarship : scholarships) {
+            MatchScore score = matchingService.score(features, scholarship);
+            if (eligibleOnly && !score.isEligible()) {
+                continue;
+            }
+            if (score.getPercentage() < request.getMinimumMatchPercentage()) {
+                continue;
+            }
+
+            switch (score.getQuality()) {
+                case EXCELLENT -> excellentCount++;
+                case GOOD -> goodCount++;
+                case FAIR -> fairCount++;
+                default -> {}
+            }
+
+            if (emitted.size() < limit) {
+                ScholarshipMatchDto dto = mapToMatchDto(scholarship, matchingService.explain(features, score));
+                emitted.add(dto);
+                sink.accept(dto);
+            }
+        }
+
+        return MatchResponse.builder()
+            .studentId(student.getUserId())
+            .studentName(student.getFullName())
+            .totalScholarshipsAnalyzed(scholarships.size())
+            .matchesFound(emitted.size())
             .excellentMatches(excellentCount)
             .goodMatches(goodCount)
             .fairMatches(fairCount)
+            .improvementSuggestions(generateImprovementSuggestions(student, emitted))
+            .build();
+    }
+
+    /**
+     * Whether a request can be answered from scholarships.match_scores: no filters beyond
+     * minimum match and eligibility, ordered by match descending, and the rows are
+     * materialized against this very catalog snapshot.
+     */
+    private boolean isMaterializable(MatchRequest request, CompiledScholarshipIndex.Snapshot snapshot) {
+        return matchingConfig.getMaterialized().isEnabled()
+            && matchScoreMaterializer.isReady(snapshot.version())
+            && !hasScholarshipIds(request)
+            && isBlank(request.getEducationLevel())
+            && isBlank(request.getCountry())
+            && isBlank(request.getScholarshipType())
+            && isMatchDesc(request);
+    }
+
+    private static boolean isMatchDesc(MatchRequest request) {
+        return request.getSortBy() == null || "MATCH_DESC".equals(request.getSortBy());
+    }
+
+    /**
+     * Read a page of matches from the materialized scores with a (score, scholarship_id) cursor.
+     * Returns null when the student's rows are missing or older than their profile; the
+     * student is then queued for re-scoring and the request is computed live.
+     *
+     * The rows were materialized against {@code snapshot} (see {@link #isMaterializable}),
+     * so there is one row per active scholarship and the stored score, quality and
+     * eligibility are shown as stored; only the criteria lists are built live, for the page.
+     * Reading the stored page is timed as the SCORE phase, which it replaces, and the
+     * criteria lists as EXPLAIN; the caller has already recorded FETCH.
+     */
+    private MatchResponse getMaterializedMatches(StudentProfile student, StudentFeatureVector features,
+                                                 MatchRequest request, CompiledScholarshipIndex.Snapshot snapshot,
+                                                 long start) {
+        Long userId = student.getUserId();
+        int total = matchScoreRepository.countByStudentId(userId);
+        if (total == 0 || !matchScoreMaterializer.isCurrent(student)) {
+            matchScoreMaterializer.requestStudent(userId);
+            return null;
+        }
+
+        boolean eligibleOnly = Boolean.TRUE.equals(request.getEligibleOnly());
+        BigDecimal minScore = BigDecimal.valueOf(request.getMinimumMatchPercentage());
+        int limit = request.getLimit() != null ? Math.max(request.getLimit(), 0) : total;
+        MatchCursor after = MatchCursor.parse(request.getCursor());
+
+        List<MatchScoreRow> rows = matchScoreRepository.findPage(userId, minScore, eligibleOnly,
+            after != null ? after.score() : null, after != null ? after.scholarshipId() : null, limit);
+        Map<String, Integer> qualityCounts = matchScoreRepository.countByQuality(userId, minScore, eligibleOnly);
+        start = matchMetrics.recordPhase(MatchMetrics.Phase.SCORE, start);
+
+        List<ScholarshipMatchDto> matchedScholarships = new ArrayList<>(rows.size());
+        for (MatchScoreRow row : rows) {
+            snapshot.find(row.scholarshipId()).ifPresent(scholarship -> {
+                ScholarshipMatchDto dto = mapToMatchDto(scholarship, matchingService.calculateMatch(features, scholarship));
+                dto.setMatchPercentage(row.score());
+                dto.setMatchQuality(row.quality());
+                dto.setEligible(row.eligible());
+                matchedScholarships.add(dto);
+            });
+        }
+
+        String nextCursor = null;
+        if (limit > 0 && rows.size() == limit) {
+            MatchScoreRow last = rows.get(rows.size() - 1);
+            nextCursor = new MatchCursor(last.score().movePointRight(2).intValueExact(), last.scholarshipId()).toString();
+        }
+
+        List<String> suggestions = generateImprovementSuggestions(student, matchedScholarships);
+        matchMetrics.recordPhase(MatchMetrics.Phase.EXPLAIN, start);
+
+        return MatchResponse.builder()
+            .studentId(userId)
+            .studentName(student.getFullName())
+            .totalScholarshipsAnalyzed(total)
+            .matchesFound(matchedScholarships.size())
+            .excellentMatches(qualityCounts.getOrDefault("EXCELLENT", 0))
+            .goodMatches(qualityCounts.getOrDefault("GOOD", 0))
+            .fairMatches(qualityCounts.getOrDefault("FAIR", 0))
             .scholarships(matchedScholarships)
             .improvementSuggestions(suggestions)
+            .nextCursor(nextCursor)
             .build();
     }
 
+    private static boolean hasScholarshipIds(MatchRequest request) {
+        return request.getScholarshipIds() != null && !request.getScholarshipIds().isEmpty();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    /**
+     * Handle a profile update made by another service: drop the cached profile and
+     * match vector, and queue the student's materialized rows for re-scoring.
+     */
+    public void onStudentProfileUpdated(Long studentUserId) {
+        studentProfileCache.invalidate(studentUserId);
+        matchScoreCache.invalidate(studentUserId);
+        if (matchingConfig.getMaterialized().isEnabled()) {
+            matchScoreMaterializer.requestStudent(studentUserId);
+        }
+    }
+
     /**
      * Get match result for a specific student-scholarship pair.
      */
-    @Transactional(readOnly = true)
     public MatchResult getMatchDetails(Long studentUserId, Long scholarshipId) {
-        StudentProfile student = studentProfileRepository.findByUserId(studentUserId)
+        StudentProfile student = studentProfileCache.get(studentUserId)
             .orElseThrow(() -> new RuntimeException("Student profile not found"));
         
-        Scholarship scholarship = scholarshipRepository.findById(scholarshipId)
-            .orElseThrow(() -> new RuntimeException("Scholarship not found"));
+        CompiledScholarship scholarship = scholarshipIndex.snapshot().find(scholarshipId)
+            .orElseGet(() -> scholarshipRepository.findById(scholarshipId)
+                .map(CompiledScholarship::compile)
+                .orElseThrow(() -> new RuntimeException("Scholarship not found")));
 
         return matchingService.calculateMatch(student, scholarship);
     }
 
     /**
-     * Get filtered scholarships based on request criteria.
+     * Ordinals of the active catalog passing the request filters, as bitset operations over the snapshot.
+     * Eligible-only requests also drop scholarships with a mandatory failure.
      */
-    private List<Scholarship> getFilteredScholarships(MatchRequest request) {
-        LocalDate today = LocalDate.now();
-        List<Scholarship> scholarships;
-
-        if (request.getScholarshipIds() != null && !request.getScholarshipIds().isEmpty()) {
-            // Get specific scholarships
-            scholarships = scholarshipRepository.findAllById(request.getScholarshipIds());
-        } else {
-            // Get all active scholarships
-            scholarships = scholarshipRepository.findActiveScholarships(today);
+    private BitSet getCandidateOrdinals(CompiledScholarshipIndex.Snapshot snapshot, MatchRequest request,
+                                        StudentFeatureVector student) {
+        EligibilityPrefilter prefilter = snapshot.prefilter();
+        BitSet candidates = prefilter.select(
+            request.getEducationLevel(), request.getCountry(), request.getScholarshipType());
+        if (Boolean.TRUE.equals(request.getEligibleOnly())) {
+            prefilter.retainEligible(candidates, student);
         }
-
-        // Apply additional filters
-        return scholarships.stream()
-            .filter(s -> filterByEducationLevel(s, request.getEducationLevel()))
-            .filter(s -> filterByCountry(s, request.getCountry()))
-            .filter(s -> filterByScholarshipType(s, request.getScholarshipType()))
-            .collect(Collectors.toList());
-    }
-
-    private boolean filterByEducationLevel(Scholarship s, String level) {
-        if (level == null || level.isEmpty()) return true;
-        if (s.getEligibleLevels() == null) return true;
-        return Arrays.asList(s.getEligibleLevels()).contains(level.toUpperCase());
+        return candidates;
     }
 
-    private boolean filterByCountry(Scholarship s, String country) {
-        if (country == null || country.isEmpty()) return true;
-        if (s.getEligibleCountries() == null) return true;
-        return Arrays.asList(s.getEligibleCountries()).contains(country);
-    }
-
-    private boolean filterByScholarshipType(Scholarship s, String type) {
-        if (type == null || type.isEmpty()) return true;
-        return type.equalsIgnoreCase(s.getScholarshipType());
+    /**
+     * Explicitly requested scholarships with the request filters applied.
+     * Indexed scholarships are filtered through the snapshot's prefilter bitsets;
+     * ones not in the active index are loaded with the filters applied in SQL.
+     */
+    private List<CompiledScholarship> getRequestedScholarships(MatchRequest request,
+                                                              CompiledScholarshipIndex.Snapshot snapshot) {
+        BitSet selected = snapshot.prefilter().select(
+            request.getEducationLevel(), request.getCountry(), request.getScholarshipType());
+
+        List<CompiledScholarship> scholarships = new ArrayList<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : request.getScholarshipIds()) {
+            Integer ordinal = snapshot.ordinals().get(id);
+            if (ordinal == null) {
+                missing.add(id);
+            } else if (selected.get(ordinal)) {
+                scholarships.add(snapshot.scholarships().get(ordinal));
+            }
+        }
+        if (!missing.isEmpty()) {
+            scholarshipRepository.findByIdsAndFilters(missing, request.getEducationLevel(),
+                    request.getCountry(), request.getScholarshipType()).stream()
+                .map(CompiledScholarship::compile)
+                .forEach(scholarships::add);
+        }
+        return scholarships;
     }
 
     /**
      * Map scholarship and match result to DTO.
      */
-    private ScholarshipMatchDto mapToMatchDto(Scholarship scholarship, MatchResult matchResult) {
+    private ScholarshipMatchDto mapToMatchDto(CompiledScholarship scholarship, MatchResult matchResult) {
         List<String> matchedStrings = matchResult.getMatchedCriteria().stream()
             .map(c -> c.getCriterion())
             .collect(Collectors.toList());
@@ -157,25 +452,25 @@ public class ScholarshipService {
             .map(c -> c.getCriterion() + (c.getSuggestion() != null ? " - " + c.getSuggestion() : ""))
             .collect(Collectors.toList());
 
-        String amountDisplay = formatAmount(scholarship);
-        String deadlineDisplay = formatDeadline(scholarship.getApplicationDeadline());
+        CompiledScholarship.Details details = scholarship.details();
+        String amountDisplay = formatAmount(details);
+        String deadlineDisplay = formatDeadline(scholarship.applicationDeadline());
 
         return ScholarshipMatchDto.builder()
-            .id(scholarship.getId())
-            .title(scholarship.getTitle())
-            .description(scholarship.getDescription())
-            .provider("Institution #" + scholarship.getInstitutionId()) // TODO: Fetch actual institution name
-            .country(scholarship.getEligibleCountries() != null && scholarship.getEligibleCountries().length > 0 
-                     ? scholarship.getEligibleCountries()[0] : "Multiple")
-            .scholarshipType(scholarship.getScholarshipType())
-            .amount(scholarship.getAmount())
-            .currency(scholarship.getCurrency())
+            .id(scholarship.id())
+            .title(details.title())
+            .description(details.description())
+            .provider(formatProvider(details))
+            .country(formatCountry(details))
+            .scholarshipType(details.scholarshipType())
+            .amount(details.amount())
+            .currency(details.currency())
             .amountDisplay(amountDisplay)
-            .level(scholarship.getEligibleLevels() != null 
-                   ? String.join(", ", scholarship.getEligibleLevels()) : "All levels")
-            .applicationDeadline(scholarship.getApplicationDeadline())
+            .level(details.eligibleLevels() != null
+                   ? String.join(", ", details.eligibleLevels()) : "All levels")
+            .applicationDeadline(scholarship.applicationDeadline())
             .deadlineDisplay(deadlineDisplay)
-            .isFeatured(Boolean.TRUE.equals(scholarship.getIsFeatured()))
+            .isFeatured(details.featured())
             .matchPercentage(matchResult.getMatchPercentage())
             .matchQuality(matchResult.getMatchQuality().name())
             .matchedCriteria(matchedStrings)
@@ -184,15 +479,24 @@ public class ScholarshipService {
             .build();
     }
 
-    private String formatAmount(Scholarship scholarship) {
-        if ("FULL".equalsIgnoreCase(scholarship.getScholarshipType())) {
+    private String formatProvider(CompiledScholarship.Details details) {
+        return "Institution #" + details.institutionId(); // TODO: Fetch actual institution name
+    }
+
+    private String formatCountry(CompiledScholarship.Details details) {
+        return details.eligibleCountries() != null && !details.eligibleCountries().isEmpty()
+            ? details.eligibleCountries().get(0) : "Multiple";
+    }
+
+    private String formatAmount(CompiledScholarship.Details details) {
+        if ("FULL".equalsIgnoreCase(details.scholarshipType())) {
             return "Fully Funded";
         }
-        if (scholarship.getAmount() != null) {
-            return scholarship.getCurrency() + " " + scholarship.getAmount().toPlainString();
+        if (details.amount() != null) {
+            return details.currency() + " " + details.amount().toPlainString();
         }
-        if (scholarship.getCoveragePercentage() != null) {
-            return scholarship.getCoveragePercentage() + "% Coverage";
+        if (details.coveragePercentage() != null) {
+            return details.coveragePercentage() + "% Coverage";
         }
         return "Contact for details";
     }
@@ -202,21 +506,6 @@ public class ScholarshipService {
         return deadline.toString();
     }
 
-    /**
-     * Sort matches based on sort criteria.
-     */
-    private void sortMatches(List<ScholarshipMatchDto> matches, String sortBy) {
-        Comparator<ScholarshipMatchDto> comparator = switch (sortBy) {
-            case "MATCH_ASC" -> Comparator.comparing(ScholarshipMatchDto::getMatchPercentage);
-            case "DEADLINE_ASC" -> Comparator.comparing(
-                s -> s.getApplicationDeadline() != null ? s.getApplicationDeadline() : LocalDate.MAX);
-            case "DEADLINE_DESC" -> Comparator.comparing(
-                (ScholarshipMatchDto s) -> s.getApplicationDeadline() != null ? s.getApplicationDeadline() : LocalDate.MIN).reversed();
-            default -> Comparator.comparing(ScholarshipMatchDto::getMatchPercentage).reversed(); // MATCH_DESC
-        };
-        matches.sort(comparator);
-    }
-
     /**
      * Generate improvement suggestions based on common unmatched criteria.
      */
@@ -248,11 +537,41 @@ public class ScholarshipService {
     }
 
     /**
-     * Get all active scholarships (for browsing without matching).
+     * Get a page of active scholarships (for browsing without matching), served from the
+     * index, which already holds only unexpired scholarships in (deadline, id) order.
+     */
+    public ScholarshipPageDto getActiveScholarships(String cursor, int limit) {
+        return getScholarshipPage(cursor, limit, false);
+    }
+
+    /**
+     * Get active scholarships closing within the given number of days, earliest deadline first.
+     */
+    public List<ScholarshipSummaryDto> getClosingSoonScholarships(int days, int limit) {
+        return scholarshipIndex.snapshot().closingBy(LocalDate.now().plusDays(Math.max(days, 0))).stream()
+            .limit(Math.max(limit, 0))
+            .map(this::mapToSummaryDto)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Listing summaries of the given scholarships keyed by ID, from the index where
+     * possible and one query for the rest (e.g. expired ones). Unknown IDs are absent.
      */
     @Transactional(readOnly = true)
-    public List<Scholarship> getActiveScholarships() {
-        return scholarshipRepository.findActiveScholarships(LocalDate.now());
+    public Map<Long, ScholarshipSummaryDto> getScholarshipSummaries(Collection<Long> ids) {
+        CompiledScholarshipIndex.Snapshot snapshot = scholarshipIndex.snapshot();
+        Map<Long, ScholarshipSummaryDto> summaries = new HashMap<>(ids.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            snapshot.find(id).ifPresentOrElse(
+                s -> summaries.put(id, mapToSummaryDto(s)), () -> missing.add(id));
+        }
+        if (!missing.isEmpty()) {
+            scholarshipRepository.findAllById(missing)
+                .forEach(s -> summaries.put(s.getId(), mapToSummaryDto(CompiledScholarship.compile(s))));
+        }
+        return summaries;
     }
 
     /**
@@ -264,10 +583,64 @@ public class ScholarshipService {
     }
 
     /**
-     * Get featured scholarships.
+     * Get a page of featured scholarships.
      */
-    @Transactional(readOnly = true)
-    public List<Scholarship> getFeaturedScholarships() {
-        return scholarshipRepository.findFeaturedScholarships(LocalDate.now());
+    public ScholarshipPageDto getFeaturedScholarships(String cursor, int limit) {
+        return getScholarshipPage(cursor, limit, true);
+    }
+
+    /**
+     * Keyset page over the snapshot: binary search to the cursor, then read forward.
+     */
+    private ScholarshipPageDto getScholarshipPage(String cursor, int limit, boolean featuredOnly) {
+        CompiledScholarshipIndex.Snapshot snapshot = scholarshipIndex.snapshot();
+        int from = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf(':');
+            try {
+                from = snapshot.ordinalAfter(LocalDate.parse(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Invalid cursor: " + cursor);
+            }
+        }
+
+        int pageSize = Math.max(limit, 0);
+        List<ScholarshipSummaryDto> page = new ArrayList<>(Math.min(pageSize, 64));
+        List<CompiledScholarship> scholarships = snapshot.scholarships();
+        CompiledScholarship last = null;
+        for (int i = from; i < scholarships.size() && page.size() < pageSize; i++) {
+            CompiledScholarship scholarship = scholarships.get(i);
+            if (featuredOnly && !scholarship.details().featured()) {
+                continue;
+            }
+            page.add(mapToSummaryDto(scholarship));
+            last = scholarship;
+        }
+
+        String nextCursor = null;
+        if (pageSize > 0 && page.size() == pageSize) {
+            nextCursor = last.applicationDeadline() + ":" + last.id();
+        }
+        return ScholarshipPageDto.builder()
+            .scholarships(page)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    private ScholarshipSummaryDto mapToSummaryDto(CompiledScholarship scholarship) {
+        CompiledScholarship.Details details = scholarship.details();
+        return ScholarshipSummaryDto.builder()
+            .id(scholarship.id())
+            .title(details.title())
+            .provider(formatProvider(details))
+            .country(formatCountry(details))
+            .scholarshipType(details.scholarshipType())
+            .amount(details.amount())
+            .currency(details.currency())
+            .amountDisplay(formatAmount(details))
+            .applicationDeadline(scholarship.applicationDeadline())
+            .isFeatured(details.featured())
+            .build();
     }
 }
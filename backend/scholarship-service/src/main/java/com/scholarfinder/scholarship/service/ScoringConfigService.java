@@ -0,0 +1,97 @@
+package com.scholarfinder.scholarship.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import com.scholarfinder.scholarship.dto.ScoringConfigDto;
+import com.scholarfinder.scholarship.repository.ScoringConfigRepository;
+import com.scholarfinder.scholarship.repository.ScoringConfigRepository.PublishedConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runtime reloading of matching weights and thresholds.
+ *
+ * The published configuration lives in the scholarships.scoring_config row, whose
+ * version is global. The admin API writes it there, and every node polls the row and
+ * applies a newer version, so all nodes converge on the same weights under the same
+ * version number. Each applied version is a new {@link ScoringProfile}; cached vectors
+ * of older versions stop being served at once and are also dropped to free memory.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScoringConfigService {
+
+    private final ScoringProfiles scoringProfiles;
+    private final ScoringConfigRepository scoringConfigRepository;
+    private final MatchScoreCache matchScoreCache;
+    private final CategoryScoreCache categoryScoreCache;
+    private final ObjectMapper objectMapper;
+
+    public ScoringConfigDto getCurrent() {
+        return toDto(scoringProfiles.current());
+    }
+
+    /**
+     * Publish new weights and/or thresholds for all nodes and apply them on this one.
+     */
+    public synchronized ScoringConfigDto reload(ScoringConfigDto request) {
+        // Merge onto the latest published version, not whatever this node last polled
+        poll();
+        ScoringProfile current = scoringProfiles.current();
+        MatchingConfig.Weights weights = request.getWeights() != null ? request.getWeights() : current.toWeights();
+        MatchingConfig.Thresholds thresholds =
+            request.getThresholds() != null ? request.getThresholds() : current.toThresholds();
+        ScoringProfiles.validate(weights, thresholds);
+
+        ScoringConfigDto published = ScoringConfigDto.builder()
+            .weights(weights)
+            .thresholds(thresholds)
+            .build();
+        long version;
+        try {
+            version = scoringConfigRepository.publish(objectMapper.writeValueAsString(published));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize scoring config", e);
+        }
+        return toDto(apply(version, weights, thresholds));
+    }
+
+    /**
+     * Apply the shared configuration if another node published a newer version.
+     */
+    @Scheduled(fixedDelayString = "${matching.reload.poll-interval-ms:10000}")
+    public synchronized void poll() {
+        try {
+            PublishedConfig row = scoringConfigRepository.findCurrent().orElse(null);
+            if (row == null || row.version() <= scoringProfiles.current().version()) {
+                return;
+            }
+            ScoringConfigDto loaded = objectMapper.readValue(row.config(), ScoringConfigDto.class);
+            apply(row.version(), loaded.getWeights(), loaded.getThresholds());
+            log.info("Loaded scoring config version {}", row.version());
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Failed to load shared scoring config: {}", e.getMessage());
+        }
+    }
+
+    private ScoringProfile apply(long version, MatchingConfig.Weights weights, MatchingConfig.Thresholds thresholds) {
+        ScoringProfile applied = scoringProfiles.publish(version, weights, thresholds);
+        matchScoreCache.invalidateAll();
+        categoryScoreCache.invalidateAll();
+        return applied;
+    }
+
+    private static ScoringConfigDto toDto(ScoringProfile profile) {
+        return ScoringConfigDto.builder()
+            .version(profile.version())
+            .totalWeight(profile.totalWeight())
+            .weights(profile.toWeights())
+            .thresholds(profile.toThresholds())
+            .build();
+    }
+}
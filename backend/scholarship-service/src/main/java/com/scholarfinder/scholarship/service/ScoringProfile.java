@@ -0,0 +1,74 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import com.scholarfinder.scholarship.dto.MatchResult.MatchQuality;
+
+/**
+ * Immutable weights and quality thresholds the scoring kernel runs with.
+ *
+ * Built once per configuration version with the per-category maxima in ordinal order
+ * and their total precomputed. A scoring pass takes one profile up front and uses it
+ * for every scholarship, so a reload never mixes versions within a result; cached
+ * scores carry the {@link #version} they were computed with.
+ */
+public record ScoringProfile(long version, int[] weights, int totalWeight,
+                             int excellentMatch, int goodMatch, int minimumMatchPercentage) {
+
+    static ScoringProfile of(long version, MatchingConfig.Weights weights, MatchingConfig.Thresholds thresholds) {
+        MatchCategory[] categories = MatchCategory.all();
+        int[] maxima = new int[categories.length];
+        int total = 0;
+        for (MatchCategory category : categories) {
+            maxima[category.ordinal()] = category.weight(weights);
+            total += maxima[category.ordinal()];
+        }
+        return new ScoringProfile(version, maxima, total, thresholds.getExcellentMatch(),
+            thresholds.getGoodMatch(), thresholds.getMinimumMatchPercentage());
+    }
+
+    /**
+     * Maximum points of a category.
+     */
+    public int weight(MatchCategory category) {
+        return weights[category.ordinal()];
+    }
+
+    /**
+     * Determine match quality based on percentage (in basis points).
+     */
+    public MatchQuality quality(int basisPoints) {
+        int pct = basisPoints / 100;
+        if (pct >= excellentMatch) {
+            return MatchQuality.EXCELLENT;
+        } else if (pct >= goodMatch) {
+            return MatchQuality.GOOD;
+        } else if (pct >= minimumMatchPercentage) {
+            return MatchQuality.FAIR;
+        }
+        return MatchQuality.POOR;
+    }
+
+    /**
+     * The weights as a bindable config object, e.g. for the admin API.
+     */
+    public MatchingConfig.Weights toWeights() {
+        MatchingConfig.Weights result = new MatchingConfig.Weights();
+        result.setEducationLevel(weight(MatchCategory.EDUCATION_LEVEL));
+        result.setAcademicPerformance(weight(MatchCategory.ACADEMIC_PERFORMANCE));
+        result.setEnglishProficiency(weight(MatchCategory.ENGLISH_PROFICIENCY));
+        result.setAge(weight(MatchCategory.AGE));
+        result.setNationality(weight(MatchCategory.NATIONALITY));
+        result.setFinancialNeed(weight(MatchCategory.FINANCIAL_NEED));
+        result.setFieldOfStudy(weight(MatchCategory.FIELD_OF_STUDY));
+        result.setSpecialCategories(weight(MatchCategory.SPECIAL_CATEGORIES));
+        return result;
+    }
+
+    public MatchingConfig.Thresholds toThresholds() {
+        MatchingConfig.Thresholds result = new MatchingConfig.Thresholds();
+        result.setExcellentMatch(excellentMatch);
+        result.setGoodMatch(goodMatch);
+        result.setMinimumMatchPercentage(minimumMatchPercentage);
+        return result;
+    }
+}
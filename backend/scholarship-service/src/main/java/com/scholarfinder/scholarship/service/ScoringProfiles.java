@@ -0,0 +1,72 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holder of the current {@link ScoringProfile}.
+ *
+ * Starts from the weights and thresholds bound from application.yml as version 1.
+ * Later versions are numbered by the shared scoring_config row, so every node that
+ * applies version n scores with the same weights; {@link #publish} swaps a newer
+ * version in with one atomic reference update and ignores older ones.
+ */
+@Component
+@Slf4j
+public class ScoringProfiles {
+
+    private final AtomicReference<ScoringProfile> current;
+
+    public ScoringProfiles(MatchingConfig matchingConfig) {
+        this.current = new AtomicReference<>(
+            ScoringProfile.of(1, matchingConfig.getWeights(), matchingConfig.getThresholds()));
+    }
+
+    public ScoringProfile current() {
+        return current.get();
+    }
+
+    /**
+     * Validate and publish weights and thresholds under the given version. A version not
+     * newer than the current one is ignored and the current profile returned.
+     */
+    public synchronized ScoringProfile publish(long version, MatchingConfig.Weights weights,
+                                               MatchingConfig.Thresholds thresholds) {
+        ScoringProfile existing = current.get();
+        if (version <= existing.version()) {
+            return existing;
+        }
+        ScoringProfile candidate = ScoringProfile.of(version, weights, thresholds);
+        validate(candidate);
+        current.set(candidate);
+        log.info("Published scoring profile version {} (total weight {})", candidate.version(), candidate.totalWeight());
+        return candidate;
+    }
+
+    /**
+     * Check weights and thresholds before they are stored for other nodes to pick up.
+     */
+    public static void validate(MatchingConfig.Weights weights, MatchingConfig.Thresholds thresholds) {
+        validate(ScoringProfile.of(0, weights, thresholds));
+    }
+
+    private static void validate(ScoringProfile profile) {
+        for (MatchCategory category : MatchCategory.all()) {
+            int weight = profile.weight(category);
+            // CategoryVector keeps category points as shorts
+            if (weight < 0 || weight > Short.MAX_VALUE) {
+                throw new RuntimeException("Invalid weight for " + category.getLabel() + ": " + weight);
+            }
+        }
+        if (profile.totalWeight() <= 0) {
+            throw new RuntimeException("Total weight must be positive");
+        }
+        if (profile.minimumMatchPercentage() < 0 || profile.minimumMatchPercentage() > profile.goodMatch()
+                || profile.goodMatch() > profile.excellentMatch() || profile.excellentMatch() > 100) {
+            throw new RuntimeException("Thresholds must satisfy 0 <= minimum <= good <= excellent <= 100");
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.entity.StudentProfile;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Matching features of a student, derived once per request.
+ *
+ * Evaluators read primitives and interned upper-case codes from here instead of
+ * re-deriving GPA, parsing the English score or upper-casing profile strings for
+ * every scholarship. Numeric features use the fixed-point scales of
+ * {@link CompiledScholarship}; unknown values hold {@link CompiledScholarship#NONE}.
+ *
+ * The BigDecimal and raw String values are kept only for explanation text.
+ */
+public record StudentFeatureVector(
+        StudentProfile profile,
+        Long userId,
+        String level,
+        String nationality,
+        String nationalityCode,
+        boolean sriLankan,
+        int gpa,
+        BigDecimal gpaValue,
+        int zScore,
+        String alStream,
+        String englishTestName,
+        String englishTest,
+        BigDecimal englishScoreValue,
+        int englishScore,
+        int englishBand,
+        int age,
+        String householdIncome,
+        int incomeLevel,
+        FieldTaxonomy.FieldSet fields,
+        String fieldsDisplay,
+        boolean sports,
+        boolean leadership,
+        boolean firstGeneration,
+        boolean disability,
+        boolean willingToReturn) {
+
+    /**
+     * Derive the feature vector for a student profile.
+     */
+    public static StudentFeatureVector of(StudentProfile student) {
+        BigDecimal gpa = student.getCalculatedGpa();
+        BigDecimal englishScore = student.getEnglishScoreAsNumber();
+        String englishTest = EnglishConcordance.canonical(CompiledScholarship.code(student.getEnglishTest()));
+        int englishFixed = CompiledScholarship.fixedPoint(englishScore, CompiledScholarship.ENGLISH_SCORE_SCALE);
+        Integer age = student.getAge();
+        String[] preferredFields = student.getPreferredFields();
+
+        String nationality = student.getNationality();
+        String householdIncome = student.getHouseholdIncome();
+
+        return new StudentFeatureVector(
+            student,
+            student.getUserId(),
+            CompiledScholarship.code(student.getIntendedLevel()),
+            nationality,
+            CompiledScholarship.code(nationality),
+            nationality != null && nationality.contains("Sri Lankan"),
+            CompiledScholarship.fixedPoint(gpa, CompiledScholarship.GPA_SCALE),
+            gpa,
+            CompiledScholarship.fixedPoint(student.getZScore(), CompiledScholarship.Z_SCORE_SCALE),
+            CompiledScholarship.code(student.getAlStream()),
+            student.getEnglishTest(),
+            englishScore != null ? englishTest : null,
+            englishScore,
+            englishFixed,
+            EnglishConcordance.band(englishTest, englishFixed),
+            age != null ? age : CompiledScholarship.NONE,
+            householdIncome,
+            householdIncome != null ? MatchingService.incomeLevel(householdIncome) : CompiledScholarship.NONE,
+            FieldTaxonomy.lookup(preferredFields),
+            preferredFields != null ? String.join(", ", preferredFields) : "",
+            "Yes".equalsIgnoreCase(student.getSports()),
+            "Yes".equalsIgnoreCase(student.getLeadership()),
+            "Yes".equalsIgnoreCase(student.getFirstGeneration()),
+            "Yes".equalsIgnoreCase(student.getDisability()),
+            "Yes".equalsIgnoreCase(student.getWillingToReturn())
+        );
+    }
+
+    /**
+     * Whether the student has a usable English test result.
+     */
+    public boolean hasEnglishResult() {
+        return englishTest != null && englishScore != CompiledScholarship.NONE;
+    }
+
+    /**
+     * Categories whose scoring features differ between this vector and {@code other}.
+     * Only the features evaluators score on are compared; display values are not.
+     */
+    public Set<MatchCategory> changedCategories(StudentFeatureVector other) {
+        Set<MatchCategory> changed = EnumSet.noneOf(MatchCategory.class);
+        if (!Objects.equals(level, other.level)) {
+            changed.add(MatchCategory.EDUCATION_LEVEL);
+        }
+        if (gpa != other.gpa || zScore != other.zScore || !Objects.equals(alStream, other.alStream)) {
+            changed.add(MatchCategory.ACADEMIC_PERFORMANCE);
+        }
+        if (!Objects.equals(englishTest, other.englishTest) || englishScore != other.englishScore
+                || englishBand != other.englishBand) {
+            changed.add(MatchCategory.ENGLISH_PROFICIENCY);
+        }
+        if (age != other.age) {
+            changed.add(MatchCategory.AGE);
+        }
+        if (!Objects.equals(nationalityCode, other.nationalityCode) || sriLankan != other.sriLankan) {
+            changed.add(MatchCategory.NATIONALITY);
+        }
+        if (!Objects.equals(householdIncome, other.householdIncome) || incomeLevel != other.incomeLevel) {
+            changed.add(MatchCategory.FINANCIAL_NEED);
+        }
+        if (!fields.equals(other.fields)) {
+            changed.add(MatchCategory.FIELD_OF_STUDY);
+        }
+        if (sports != other.sports || leadership != other.leadership || firstGeneration != other.firstGeneration
+                || disability != other.disability || willingToReturn != other.willingToReturn) {
+            changed.add(MatchCategory.SPECIAL_CATEGORIES);
+        }
+        return changed;
+    }
+}
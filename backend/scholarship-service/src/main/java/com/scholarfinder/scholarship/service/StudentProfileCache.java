@@ -0,0 +1,187 @@
+package com.scholarfinder.scholarship.service;
+
+import com.scholarfinder.scholarship.config.MatchingConfig;
+import com.scholarfinder.scholarship.entity.StudentProfile;
+import com.scholarfinder.scholarship.repository.StudentProfileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Read-through near cache of student profiles keyed by user ID.
+ *
+ * Entries are detached copies of the entity, and every caller gets its own copy,
+ * including the preferred countries and fields arrays, so a caller that modifies
+ * the profile it was handed cannot change what other requests see. Profiles are
+ * written by another service that does not notify this one, so every hit is
+ * revalidated with a lookup of the profile's {@code updated_at} alone; a changed or
+ * deleted profile is reloaded (or dropped) instead of being served. The saving over a
+ * miss is the full row with its array columns. Entries also expire after
+ * {@code matching.profile-cache.ttl-ms}, and the map is an access-ordered LRU bounded
+ * by {@code matching.profile-cache.max-entries}.
+ */
+@Component
+@Slf4j
+public class StudentProfileCache {
+
+    private record Entry(StudentProfile profile, long expiresAtNanos) {}
+
+    private final StudentProfileRepository studentProfileRepository;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+    private final Counter evictions;
+
+    public StudentProfileCache(StudentProfileRepository studentProfileRepository, MatchingConfig matchingConfig,
+                               MeterRegistry meterRegistry) {
+        this.studentProfileRepository = studentProfileRepository;
+        this.maxEntries = matchingConfig.getProfileCache().getMaxEntries();
+        this.ttlNanos = matchingConfig.getProfileCache().getTtlMs() * 1_000_000L;
+        this.hits = meterRegistry.counter("scholarship.profile.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("scholarship.profile.cache.requests", "result", "miss");
+        this.stale = meterRegistry.counter("scholarship.profile.cache.requests", "result", "stale");
+        this.evictions = meterRegistry.counter("scholarship.profile.cache.evictions");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder("scholarship.profile.cache.size", this, StudentProfileCache::size).register(meterRegistry);
+    }
+
+    /**
+     * Profile of a student, loaded on a miss, after expiry or when the stored profile changed.
+     */
+    public Optional<StudentProfile> get(Long studentUserId) {
+        StudentProfile cached = lookup(studentUserId);
+        if (cached != null) {
+            if (!revalidate(Map.of(studentUserId, cached)).isEmpty()) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            stale.increment();
+        } else {
+            misses.increment();
+        }
+        return studentProfileRepository.findByUserId(studentUserId).map(this::put);
+    }
+
+    /**
+     * Profiles of many students; the misses are loaded with one query. Students without
+     * a profile are absent from the result.
+     */
+    public Map<Long, StudentProfile> getAll(Collection<Long> studentUserIds) {
+        Map<Long, StudentProfile> cached = new HashMap<>(studentUserIds.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : studentUserIds) {
+            StudentProfile profile = lookup(userId);
+            if (profile != null) {
+                cached.put(userId, profile);
+            } else {
+                missing.add(userId);
+            }
+        }
+        misses.increment(missing.size());
+
+        Map<Long, StudentProfile> result = revalidate(cached);
+        hits.increment(result.size());
+        stale.increment(cached.size() - result.size());
+        for (Long userId : cached.keySet()) {
+            if (!result.containsKey(userId)) {
+                missing.add(userId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (StudentProfile profile : studentProfileRepository.findAllByUserIdIn(missing)) {
+                result.putIfAbsent(profile.getUserId(), put(profile));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Store a freshly read profile, replacing any cached copy, and return the cached copy.
+     */
+    public StudentProfile put(StudentProfile profile) {
+        StudentProfile snapshot = copy(profile);
+        if (maxEntries > 0) {
+            synchronized (this) {
+                entries.put(snapshot.getUserId(), new Entry(snapshot, System.nanoTime() + ttlNanos));
+            }
+        }
+        return copy(snapshot);
+    }
+
+    /**
+     * Drop the cached profile of one student, e.g. after their profile was updated.
+     */
+    public synchronized void invalidate(Long studentUserId) {
+        entries.remove(studentUserId);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * The cached profiles whose stored {@code updated_at} still matches, checked with one
+     * query. Changed and deleted profiles are dropped from the cache.
+     */
+    private Map<Long, StudentProfile> revalidate(Map<Long, StudentProfile> cached) {
+        if (cached.isEmpty()) {
+            return cached;
+        }
+        Map<Long, LocalDateTime> stored = new HashMap<>(cached.size() * 2);
+        for (StudentProfileRepository.ProfileVersion version
+                : studentProfileRepository.findVersionsByUserIdIn(cached.keySet())) {
+            stored.put(version.getUserId(), version.getUpdatedAt());
+        }
+        Map<Long, StudentProfile> current = new HashMap<>(cached.size() * 2);
+        for (Map.Entry<Long, StudentProfile> entry : cached.entrySet()) {
+            LocalDateTime updatedAt = stored.get(entry.getKey());
+            if (updatedAt != null && updatedAt.equals(entry.getValue().getUpdatedAt())) {
+                current.put(entry.getKey(), entry.getValue());
+            } else {
+                invalidate(entry.getKey());
+            }
+        }
+        return current;
+    }
+
+    private synchronized StudentProfile lookup(Long studentUserId) {
+        Entry entry = entries.get(studentUserId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos() >= 0) {
+            entries.remove(studentUserId);
+            return null;
+        }
+        return copy(entry.profile());
+    }
+
+    // toBuilder copies fields by reference; the array columns need their own copies
+    private static StudentProfile copy(StudentProfile profile) {
+        return profile.toBuilder()
+            .preferredCountries(profile.getPreferredCountries() != null ? profile.getPreferredCountries().clone() : null)
+            .preferredFields(profile.getPreferredFields() != null ? profile.getPreferredFields().clone() : null)
+            .build();
+    }
+}
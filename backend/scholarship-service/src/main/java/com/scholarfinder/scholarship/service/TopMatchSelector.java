@@ -0,0 +1,157 @@
+package com.scholarfinder.scholarship.service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Streaming top-K selection of match scores.
+ *
+ * Keeps at most {@code limit} scores in a bounded heap whose head is the worst
+ * kept entry, so each offer is O(log k) and memory stays O(k) regardless of
+ * catalog size. Quality counters cover every offered score, not just the kept ones.
+ *
+ * Match-sorted modes break ties on scholarship ID, descending for MATCH_DESC, which is
+ * the (score DESC, scholarship_id DESC) order the materialized match_scores pages use,
+ * so a request reads the same order whichever path serves it. Deadline-sorted modes
+ * break ties by the sequence passed to {@link #offer} (the candidate's catalog position).
+ * A MATCH_DESC selector can start after a {@link MatchCursor}: scores at or before it
+ * are still counted but not kept, so each page carries the counters of the full result.
+ */
+public final class TopMatchSelector {
+
+    private record Entry(MatchScore score, int sequence) {}
+
+    private final int limit;
+    private final Comparator<MatchScore> order;
+    private final PriorityQueue<Entry> heap;
+    private final MatchCursor after;
+
+    private int offeredCount;
+    private int excellentCount;
+    private int goodCount;
+    private int fairCount;
+
+    /**
+     * @param sortBy MATCH_DESC (default), MATCH_ASC, DEADLINE_ASC or DEADLINE_DESC
+     * @param limit  maximum number of results to keep; null keeps everything
+     */
+    public TopMatchSelector(String sortBy, Integer limit) {
+        this(sortBy, limit, null);
+    }
+
+    /**
+     * @param after keep only scores after this MATCH_DESC position; null keeps from the top
+     */
+    public TopMatchSelector(String sortBy, Integer limit, MatchCursor after) {
+        if (after != null && sortBy != null && !"MATCH_DESC".equals(sortBy)) {
+            throw new RuntimeException("A cursor can only be used with sortBy MATCH_DESC");
+        }
+        this.limit = limit != null ? Math.max(limit, 0) : Integer.MAX_VALUE;
+        this.order = order(sortBy);
+        this.after = after;
+        // Worst entry at the head so it can be evicted in O(log k)
+        this.heap = new PriorityQueue<>(Math.min(this.limit, 64) + 1, (a, b) -> compare(b.score, b.sequence, a));
+    }
+
+    /**
+     * Best-first ordering for a sort mode.
+     */
+    public static Comparator<MatchScore> order(String sortBy) {
+        return switch (sortBy != null ? sortBy : "MATCH_DESC") {
+            case "MATCH_ASC" -> Comparator.comparingInt(MatchScore::getBasisPoints)
+                .thenComparingLong(TopMatchSelector::scholarshipId);
+            case "DEADLINE_ASC" -> Comparator.comparing(s -> deadlineOr(s, LocalDate.MAX));
+            case "DEADLINE_DESC" -> Comparator.comparing((MatchScore s) -> deadlineOr(s, LocalDate.MIN)).reversed();
+            default -> Comparator.comparingInt(MatchScore::getBasisPoints)
+                .thenComparingLong(TopMatchSelector::scholarshipId).reversed(); // MATCH_DESC
+        };
+    }
+
+    /**
+     * Offer a score that passed the request filters.
+     */
+    public void offer(MatchScore score, int sequence) {
+        offeredCount++;
+        switch (score.getQuality()) {
+            case EXCELLENT -> excellentCount++;
+            case GOOD -> goodCount++;
+            case FAIR -> fairCount++;
+            default -> {}
+        }
+
+        if (limit == 0 || (after != null && !after.admits(score.getBasisPoints(), scholarshipId(score)))) {
+            return;
+        }
+        if (heap.size() < limit) {
+            heap.add(new Entry(score, sequence));
+        } else if (compare(score, sequence, heap.peek()) < 0) {
+            // Better than the worst kept entry
+            heap.poll();
+            heap.add(new Entry(score, sequence));
+        }
+    }
+
+    /**
+     * Fold another selector's kept entries and counters into this one.
+     */
+    public void merge(TopMatchSelector other) {
+        offeredCount += other.offeredCount;
+        excellentCount += other.excellentCount;
+        goodCount += other.goodCount;
+        fairCount += other.fairCount;
+        for (Entry entry : other.heap) {
+            if (heap.size() < limit) {
+                heap.add(entry);
+            } else if (limit > 0 && compare(entry.score, entry.sequence, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Kept scores, best first.
+     */
+    public List<MatchScore> results() {
+        List<Entry> entries = new ArrayList<>(heap);
+        entries.sort((a, b) -> compare(a.score, a.sequence, b));
+        List<MatchScore> results = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            results.add(entry.score);
+        }
+        return results;
+    }
+
+    /**
+     * Number of scores offered, i.e. candidates that passed the request filters.
+     */
+    public int getOfferedCount() {
+        return offeredCount;
+    }
+
+    public int getExcellentCount() {
+        return excellentCount;
+    }
+
+    public int getGoodCount() {
+        return goodCount;
+    }
+
+    public int getFairCount() {
+        return fairCount;
+    }
+
+    private int compare(MatchScore score, int sequence, Entry other) {
+        int result = order.compare(score, other.score);
+        return result != 0 ? result : Integer.compare(sequence, other.sequence);
+    }
+
+    private static long scholarshipId(MatchScore score) {
+        return score.getScholarship().id();
+    }
+
+    private static LocalDate deadlineOr(MatchScore score, LocalDate fallback) {
+        LocalDate deadline = score.getScholarship().applicationDeadline();
+        return deadline != null ? deadline : fallback;
+    }
+}